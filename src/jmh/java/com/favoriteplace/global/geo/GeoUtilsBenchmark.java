@@ -0,0 +1,50 @@
+package com.favoriteplace.global.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산 벤치마크 (./gradlew jmh, 호출당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoUtilsBenchmark {
+    // 성지순례 좌표 (도쿄 스가 신사 근처)
+    private double centerLatitude;
+    private double centerLongitude;
+    private double cosCenterLatitude;
+    private double latitude;
+    private double longitude;
+
+    @Setup
+    public void setUp() {
+        centerLatitude = 35.6857;
+        centerLongitude = 139.7203;
+        cosCenterLatitude = GeoUtils.cosLatitude(centerLatitude);
+        latitude = 35.6861;
+        longitude = 139.7210;
+    }
+
+    @Benchmark
+    public boolean isWithin() {
+        return GeoUtils.isWithin(latitude, longitude, centerLatitude, centerLongitude, cosCenterLatitude, 100.0);
+    }
+
+    @Benchmark
+    public double equirectangular() {
+        return GeoUtils.equirectangularMeter(centerLatitude, centerLongitude, latitude, longitude, cosCenterLatitude);
+    }
+
+    @Benchmark
+    public double haversine() {
+        return GeoUtils.haversineMeter(centerLatitude, centerLongitude, latitude, longitude);
+    }
+}
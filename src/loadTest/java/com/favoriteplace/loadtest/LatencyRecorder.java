@@ -0,0 +1,66 @@
+package com.favoriteplace.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목적지별 응답 시간 기록 (p50/p99/p999, 처리량)
+ */
+class LatencyRecorder {
+    private final String destination;
+    private final AtomicLong timeouts = new AtomicLong();
+    private long[] samples = new long[1024];
+    private int size;
+    private long firstAt = Long.MAX_VALUE;
+    private long lastAt = Long.MIN_VALUE;
+
+    LatencyRecorder(String destination) {
+        this.destination = destination;
+    }
+
+    synchronized void record(long startedAt, long finishedAt) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = finishedAt - startedAt;
+        firstAt = Math.min(firstAt, startedAt);
+        lastAt = Math.max(lastAt, finishedAt);
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    void timeout() {
+        timeouts.incrementAndGet();
+    }
+
+    static String header() {
+        return String.format("%-36s %8s %8s %10s %10s %10s %10s %12s",
+                "destination", "count", "timeout", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "throughput/s");
+    }
+
+    synchronized String report() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double seconds = size == 0 ? 0 : (lastAt - firstAt) / (double) TimeUnit.SECONDS.toNanos(1);
+        return String.format("%-36s %8d %8d %10.2f %10.2f %10.2f %10.2f %12.1f",
+                destination, size, timeouts.get(),
+                millis(percentile(sorted, 50.0)), millis(percentile(sorted, 99.0)), millis(percentile(sorted, 99.9)),
+                millis(size == 0 ? 0 : sorted[size - 1]),
+                seconds == 0 ? 0 : size / seconds);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
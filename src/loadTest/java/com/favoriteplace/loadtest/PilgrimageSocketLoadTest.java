@@ -0,0 +1,314 @@
+package com.favoriteplace.loadtest;
+
+import com.favoriteplace.app.domain.Image;
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.enums.ItemCategory;
+import com.favoriteplace.app.domain.enums.ItemType;
+import com.favoriteplace.app.domain.enums.LoginType;
+import com.favoriteplace.app.domain.enums.MemberStatus;
+import com.favoriteplace.app.domain.enums.SaleStatus;
+import com.favoriteplace.app.domain.item.Item;
+import com.favoriteplace.app.domain.travel.Address;
+import com.favoriteplace.app.domain.travel.Pilgrimage;
+import com.favoriteplace.app.domain.travel.Rally;
+import com.favoriteplace.app.repository.AddressRepository;
+import com.favoriteplace.app.repository.ImageRepository;
+import com.favoriteplace.app.repository.ItemRepository;
+import com.favoriteplace.app.repository.MemberRepository;
+import com.favoriteplace.app.repository.PilgrimageRepository;
+import com.favoriteplace.app.repository.RallyRepository;
+import com.favoriteplace.global.security.provider.JwtTokenProvider;
+import com.google.cloud.storage.Storage;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 성지순례 웹소켓 흐름 부하 테스트 (connect -> location -> certify)
+ * H2 + embedded Redis 로 앱을 띄우고 STOMP 클라이언트 N개로 /ws 에 접속해서 목적지별 지연 시간/처리량을 출력
+ *
+ * ./gradlew loadTest -Dloadtest.clients=2000 -Dloadtest.locations=10 -Dloadtest.concurrency=500
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+class PilgrimageSocketLoadTest {
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final int LOCATIONS = Integer.getInteger("loadtest.locations", 5);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    // 스가 신사 계단 근처
+    private static final double LATITUDE = 35.6857;
+    private static final double LONGITUDE = 139.7203;
+
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer REDIS_SERVER = startRedis();
+
+    @MockBean
+    private FirebaseApp firebaseApp;
+    @MockBean
+    private FirebaseMessaging firebaseMessaging;
+    @MockBean
+    private Storage storage;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ImageRepository imageRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private RallyRepository rallyRepository;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private PilgrimageRepository pilgrimageRepository;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final AtomicLong streamedLocations = new AtomicLong();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        REDIS_SERVER.stop();
+    }
+
+    @Test
+    void connectLocationCertify() throws Exception {
+        //Given
+        Long pilgrimageId = createPilgrimage();
+        List<String> tokens = createMembers();
+
+        LatencyRecorder stompConnect = recorder("STOMP CONNECT /ws");
+        LatencyRecorder connect = recorder("/app/connect/{pilgrimageId}");
+        LatencyRecorder location = recorder("/app/location/{pilgrimageId}");
+        LatencyRecorder certify = recorder("/app/certify/{pilgrimageId}");
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        String url = "ws://localhost:" + port + "/ws";
+
+        //When
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (String token : tokens) {
+            futures.add(clients.submit(() -> {
+                runClient(stompClient, url, token, pilgrimageId, stompConnect, connect, location, certify);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        clients.shutdown();
+
+        //Then
+        System.out.println();
+        System.out.printf("clients=%d, locations/client=%d, concurrency=%d, elapsed=%.1fs, streamed locations=%d%n",
+                CLIENTS, LOCATIONS, CONCURRENCY, elapsed / 1e9, streamedLocations.get());
+        System.out.println(LatencyRecorder.header());
+        recorders.values().forEach(recorder -> System.out.println(recorder.report()));
+
+        assertThat(certify.count()).isPositive();
+    }
+
+    private void runClient(WebSocketStompClient stompClient, String url, String token, Long pilgrimageId,
+                           LatencyRecorder stompConnect, LatencyRecorder connect,
+                           LatencyRecorder location, LatencyRecorder certify) throws Exception {
+        BlockingQueue<Object> statusUpdates = new LinkedBlockingQueue<>();
+        BlockingQueue<Object> certifyResults = new LinkedBlockingQueue<>();
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        long startedAt = System.nanoTime();
+        StompSession session = stompClient
+                .connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {})
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        stompConnect.record(startedAt, System.nanoTime());
+
+        try {
+            session.subscribe("/user/pub/statusUpdate/" + pilgrimageId, collector(statusUpdates));
+            session.subscribe("/user/pub/certify/" + pilgrimageId, collector(certifyResults));
+
+            // 인바운드 채널은 스레드풀이라 SUBSCRIBE 보다 SEND 가 먼저 처리될 수 있으므로 응답이 올 때까지 재시도
+            boolean connected = false;
+            for (int attempt = 0; attempt < 3 && !connected; attempt++) {
+                connected = request(session, "/app/connect/" + pilgrimageId, "", statusUpdates, connect, 1);
+            }
+            if (!connected) {
+                connect.timeout();
+                return;
+            }
+
+            // 인증 반경 안의 첫 위치는 버튼 상태가 바뀌므로 응답이 옴
+            if (!request(session, "/app/location/" + pilgrimageId, locationPayload(0), statusUpdates, location, TIMEOUT_SECONDS)) {
+                location.timeout();
+            }
+
+            // 이후 위치는 상태가 그대로라 응답 없이 스트리밍 (서버에서 조절/병합)
+            for (int i = 1; i < LOCATIONS; i++) {
+                session.send("/app/location/" + pilgrimageId, locationPayload(i));
+                streamedLocations.incrementAndGet();
+            }
+
+            if (!request(session, "/app/certify/" + pilgrimageId, "", certifyResults, certify, TIMEOUT_SECONDS)) {
+                certify.timeout();
+            }
+        } finally {
+            session.disconnect();
+        }
+    }
+
+    private boolean request(StompSession session, String destination, Object payload,
+                            BlockingQueue<Object> replies, LatencyRecorder recorder, long timeoutSeconds) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        session.send(destination, payload);
+        if (replies.poll(timeoutSeconds, TimeUnit.SECONDS) == null) {
+            return false;
+        }
+        recorder.record(startedAt, System.nanoTime());
+        return true;
+    }
+
+    private StompFrameHandler collector(BlockingQueue<Object> replies) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                replies.add(payload);
+            }
+        };
+    }
+
+    private Map<String, Double> locationPayload(int step) {
+        // 인증 반경 안에서 약간씩 흔들리는 GPS 좌표
+        double jitter = step == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-0.0002, 0.0002);
+        return Map.of("latitude", LATITUDE + jitter, "longitude", LONGITUDE + jitter);
+    }
+
+    private LatencyRecorder recorder(String destination) {
+        return recorders.computeIfAbsent(destination, LatencyRecorder::new);
+    }
+
+    private Long createPilgrimage() {
+        Item item = itemRepository.save(Item.builder()
+                .defaultImage(image("item"))
+                .name("부하 테스트 칭호")
+                .status(SaleStatus.NOT_FOR_SALE)
+                .type(ItemType.TITLE)
+                .category(ItemCategory.NORMAL)
+                .point(0L)
+                .description("load test")
+                .build());
+        Rally rally = rallyRepository.save(Rally.builder()
+                .item(item)
+                .image(image("rally"))
+                .name("load test")
+                .description("load test")
+                .achieveNumber(0L)
+                .pilgrimageNumber(1L)
+                .build());
+        Address address = addressRepository.save(Address.builder().state("도쿄도").district("신주쿠구").build());
+        Pilgrimage pilgrimage = pilgrimageRepository.save(Pilgrimage.builder()
+                .address(address)
+                .rally(rally)
+                .virtualImage(image("virtual"))
+                .realImage(image("real"))
+                .rallyName("load test")
+                .detailAddress("load test")
+                .detailAddressEn("load test")
+                .detailAddressJp("load test")
+                .latitude(LATITUDE)
+                .longitude(LONGITUDE)
+                .build());
+        return pilgrimage.getId();
+    }
+
+    private Image image(String name) {
+        return imageRepository.save(Image.builder().url("https://example.com/" + name + ".png").build());
+    }
+
+    private List<String> createMembers() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            members.add(Member.builder()
+                    .email("loadtest" + i + "@example.com")
+                    .nickname("loadtest" + i)
+                    .status(MemberStatus.Y)
+                    .alarmAllowance(false)
+                    .point(0L)
+                    .loginType(LoginType.SELF)
+                    .build());
+        }
+        return memberRepository.saveAll(members).stream()
+                .map(member -> jwtTokenProvider.generateToken(member.getEmail()).getAccessToken())
+                .toList();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RedisServer startRedis() {
+        RedisServer redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        return redisServer;
+    }
+}
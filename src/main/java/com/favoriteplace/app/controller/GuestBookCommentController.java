@@ -27,10 +27,11 @@ public class GuestBookCommentController {
     @GetMapping("/my-comments")
     public ResponseEntity<GuestBookResponseDto.MyGuestBookCommentDto> getMyComments(
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ){
         Member member = securityUtil.getUser();
-        return ResponseEntity.ok(commentQueryService.getMyGuestBookComments(member, page, size));
+        return ResponseEntity.ok(commentQueryService.getMyGuestBookComments(member, page, size, cursor));
     }
 
     @GetMapping("/{guestbook_id}/comments")
@@ -38,10 +39,11 @@ public class GuestBookCommentController {
             @PathVariable("guestbook_id") Long guestbookId,
             @RequestParam(required = false, defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "5") int size,
+            @RequestParam(required = false) String cursor,
             HttpServletRequest request
     ){
         Member member = securityUtil.getUserFromHeader(request);
-        return ResponseEntity.ok(commentQueryService.getGuestBookComments(page, size, member, guestbookId));
+        return ResponseEntity.ok(commentQueryService.getGuestBookComments(page, size, member, guestbookId, cursor));
     }
 
     @PostMapping("/{guestbook_id}/comments")
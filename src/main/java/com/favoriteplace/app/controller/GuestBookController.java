@@ -33,14 +33,10 @@ public class GuestBookController {
     public GuestBookResponseDto.TotalGuestBookDto getTotalGuestBooks(
             @RequestParam(required = false, defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "10") int size,
-            @RequestParam(required = false, defaultValue = "latest") String sort
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor
     ){
-        List<GuestBookResponseDto.TotalGuestBookInfo> guestBookInfos = guestBookQueryService.getTotalGuestBooksBySort(page, size, sort);
-        return GuestBookResponseDto.TotalGuestBookDto.builder()
-                .page((long)page)
-                .size((long)size)
-                .guestBook(guestBookInfos)
-                .build();
+        return guestBookQueryService.getTotalGuestBooksBySort(page, size, sort, cursor);
     }
 
     @GetMapping("/search")
@@ -62,14 +58,10 @@ public class GuestBookController {
     @GetMapping("/my-posts")
     public GuestBookResponseDto.MyGuestBookDto getMyGuestBooks(
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ){
-        List<GuestBookResponseDto.MyGuestBookInfo> myGuestBooks = guestBookQueryService.getMyGuestBooks(page, size);
-        return GuestBookResponseDto.MyGuestBookDto.builder()
-                .page((long)page)
-                .size((long)size)
-                .myGuestBookInfo(myGuestBooks)
-                .build();
+        return guestBookQueryService.getMyGuestBooks(page, size, cursor);
     }
 
     @GetMapping("/{guestbook_id}")
@@ -6,14 +6,18 @@ import com.favoriteplace.app.dto.travel.PilgrimageDto;
 import com.favoriteplace.app.dto.travel.RallyDto;
 import com.favoriteplace.app.service.PilgrimageCommandService;
 import com.favoriteplace.app.service.PilgrimageQueryService;
+import com.favoriteplace.global.catalog.PrecomputedJson;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
 import com.favoriteplace.global.util.SecurityUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -52,15 +56,26 @@ public class PilgrimageApiController {
     }
 
     // 성지순례 지역 카테고리
+    // 응답 형식은 List<PilgrimageDto.PilgrimageCategoryRegionDto>, 바뀌지 않았다면 304
     @GetMapping("/region")
-    public List<PilgrimageDto.PilgrimageCategoryRegionDto> getCategoryRegion(){
-        return pilgrimageQueryService.getCategoryRegion();
+    public ResponseEntity<byte[]> getCategoryRegion(WebRequest request){
+        return toJsonResponse(pilgrimageQueryService.getCategoryRegion(), request);
     }
 
     // 성지순례 지역 상세 카테고리
+    // 응답 형식은 List<PilgrimageDto.PilgrimageCategoryRegionDetailDto>, 바뀌지 않았다면 304
     @GetMapping("/region/{regionId}")
-    public List<PilgrimageDto.PilgrimageCategoryRegionDetailDto> getCategoryRegionDetail(@PathVariable("regionId")Long regionId){
-        return pilgrimageQueryService.getCategoryRegionDetail(regionId);
+    public ResponseEntity<byte[]> getCategoryRegionDetail(WebRequest request, @PathVariable("regionId")Long regionId){
+        return toJsonResponse(pilgrimageQueryService.getCategoryRegionDetail(regionId), request);
+    }
+
+    // 내 주변 성지순례 (반경 radius 미터 이내)
+    // 회원 + 비회원
+    @GetMapping("/nearby")
+    public List<PilgrimageDto.PilgrimageNearbyDto> getNearbyPilgrimages(
+            @RequestParam Double latitude, @RequestParam Double longitude,
+            @RequestParam(required = false, defaultValue = "100") Double radius){
+        return pilgrimageQueryService.getNearbyPilgrimages(latitude, longitude, radius);
     }
 
     // 성지순례 랠리 상세
@@ -145,4 +160,14 @@ public class PilgrimageApiController {
         }
         return pilgrimageQueryService.searchRegion(value, member);
     }
+
+    private ResponseEntity<byte[]> toJsonResponse(PrecomputedJson json, WebRequest request) {
+        if (request.checkNotModified(json.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(json.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(json.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json.getBody());
+    }
 }
@@ -1,19 +1,20 @@
 package com.favoriteplace.app.controller;
 
-import com.favoriteplace.app.domain.Member;
 import com.favoriteplace.app.dto.CommonResponseDto;
 import com.favoriteplace.app.dto.travel.PilgrimageDto;
 import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
 import com.favoriteplace.app.service.PilgrimageCommandService;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
-import com.favoriteplace.global.security.CustomUserDetails;
+import com.favoriteplace.global.websocket.LocationUpdateCoalescer;
+import com.favoriteplace.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -22,73 +23,73 @@ import java.security.Principal;
 @RequiredArgsConstructor
 public class PilgrimageSocketController {
     private final PilgrimageCommandService pilgrimageService;
+    private final LocationUpdateCoalescer locationUpdateCoalescer;
+    private final SimpMessagingTemplate messagingTemplate;
 
     /**
      * 최초 접근 시 버튼 상태 전달하는 컨트롤러
      *
      * 요청 컨트롤러 /app/connect/{pilgrimageId}
-     * 응답 컨트롤러 /pub/statusUpdate/{pilgrimageId}
+     * 응답 컨트롤러 /user/pub/statusUpdate/{pilgrimageId} (요청한 사용자에게만 전송)
      *
      * @param pilgrimageId 성지순례 ID
      * @return
      */
     @MessageMapping("/connect/{pilgrimageId}")
-    @SendTo("/pub/statusUpdate/{pilgrimageId}")
+    @SendToUser("/pub/statusUpdate/{pilgrimageId}")
     public PilgrimageSocketDto.ButtonState sendInitialStatus(@DestinationVariable Long pilgrimageId,  Principal principal) {
-        if (principal == null)
-            throw new RestApiException(ErrorCode.USER_NOT_AUTHOR);
-
-        CustomUserDetails userDetails = (CustomUserDetails)
-                ((UsernamePasswordAuthenticationToken) principal).getPrincipal();
-        Member member = userDetails.getMember();
+        StompPrincipal user = getStompPrincipal(principal);
 
-        PilgrimageSocketDto.ButtonState buttonState = pilgrimageService.initButton(member, pilgrimageId);
+        PilgrimageSocketDto.ButtonState buttonState = pilgrimageService.initButton(user.getId(), pilgrimageId);
         return buttonState;
     }
 
     /**
      * 위도/경도 전달 시 상태 변경 알리는 컨트롤러
+     * 위치는 세션별로 조절(throttle/coalesce)해서 처리하고, 상태가 바뀐 경우에만 전송
      *
      * 요청 컨트롤러 /app/location/{pilgrimageId}
-     * 응답 컨트롤러  /pub/statusUpdate/{pilgrimageId}
+     * 응답 컨트롤러  /user/pub/statusUpdate/{pilgrimageId} (요청한 사용자에게만 전송)
      *
      * @param pilgrimageId 성지순례 ID
      * @param userLocation 위도/경도
-     * @return 버튼 상태 json
      */
     @MessageMapping("/location/{pilgrimageId}")
-    @SendTo("/pub/statusUpdate/{pilgrimageId}")
-    public PilgrimageSocketDto.ButtonState checkUserLocation(@DestinationVariable Long pilgrimageId, Principal principal, PilgrimageDto.PilgrimageCertifyRequestDto userLocation) {
-        if (principal == null)
-            throw new RestApiException(ErrorCode.USER_NOT_AUTHOR);
+    public void checkUserLocation(@DestinationVariable Long pilgrimageId, Principal principal,
+                                  SimpMessageHeaderAccessor headerAccessor, PilgrimageDto.PilgrimageCertifyRequestDto userLocation) {
+        StompPrincipal user = getStompPrincipal(principal);
 
-        CustomUserDetails userDetails = (CustomUserDetails)
-                ((UsernamePasswordAuthenticationToken) principal).getPrincipal();
-        Member member = userDetails.getMember();
-
-        PilgrimageSocketDto.ButtonState buttonState = pilgrimageService.buttonStatusUpdate(pilgrimageId, userLocation, member);
-        return buttonState;
+        locationUpdateCoalescer.submit(headerAccessor.getSessionId(), pilgrimageId,
+                userLocation.getLatitude(), userLocation.getLongitude(), () -> {
+                    PilgrimageSocketDto.ButtonState buttonState = pilgrimageService.buttonStatusUpdate(pilgrimageId, userLocation, user.getId());
+                    if (buttonState != null)
+                        messagingTemplate.convertAndSendToUser(user.getName(), "/pub/statusUpdate/" + pilgrimageId, buttonState);
+                });
     }
 
     /**
      * 성지순례 인증하기 버튼 클릭 이벤트
      *
      * 요청 컨트롤러 /app/certify/{pilgrimageId}
-     * 응답 컨트롤러 /pub/cerfity/{pilgrimageId}
+     * 응답 컨트롤러 /user/pub/certify/{pilgrimageId} (요청한 사용자에게만 전송)
      *
      * @param pilgrimageId 성지순례 ID
      * @return
      */
     @MessageMapping("/certify/{pilgrimageId}")
-    @SendTo("/pub/certify/{pilgrimageId}")
+    @SendToUser("/pub/certify/{pilgrimageId}")
     public CommonResponseDto.RallyResponseDto certifyPilgrimage(@DestinationVariable Long pilgrimageId, Principal principal) {
-        if (principal == null)
-            throw new RestApiException(ErrorCode.USER_NOT_AUTHOR);
+        StompPrincipal user = getStompPrincipal(principal);
 
-        CustomUserDetails userDetails = (CustomUserDetails)
-                ((UsernamePasswordAuthenticationToken) principal).getPrincipal();
-        Member member = userDetails.getMember();
+        return pilgrimageService.certifyToPilgrimage(pilgrimageId, user.getId());
+    }
 
-        return pilgrimageService.certifyToPilgrimage(pilgrimageId, member);
+    /**
+     * CONNECT 시 세션에 저장한 사용자 정보 (DB 조회 없음)
+     */
+    private StompPrincipal getStompPrincipal(Principal principal) {
+        if (!(principal instanceof StompPrincipal stompPrincipal))
+            throw new RestApiException(ErrorCode.USER_NOT_AUTHOR);
+        return stompPrincipal;
     }
 }
@@ -29,10 +29,11 @@ public class PostCommentController {
     @GetMapping("/my-comments")
     public ResponseEntity<MyCommentDto> getMyComments(
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ){
         Member member = securityUtil.getUser();
-        return ResponseEntity.ok(commentQueryService.getMyPostComments(member, page, size));
+        return ResponseEntity.ok(commentQueryService.getMyPostComments(member, page, size, cursor));
     }
 
     @GetMapping("/{post_id}/comments")
@@ -40,10 +41,11 @@ public class PostCommentController {
             @PathVariable("post_id") Long postId,
             @RequestParam(required = false, defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "5") int size,
+            @RequestParam(required = false) String cursor,
             HttpServletRequest request
     ){
         Member member = securityUtil.getUserFromHeader(request);
-        return ResponseEntity.ok(commentQueryService.getPostComments(member, page, size, postId));
+        return ResponseEntity.ok(commentQueryService.getPostComments(member, page, size, postId, cursor));
     }
 
     @PostMapping("/{post_id}/comments")
@@ -40,29 +40,21 @@ public class PostController {
     @GetMapping("/my-posts")
     public PostResponseDto.MyPostResponseDto getMyPosts(
             @RequestParam(required = false, defaultValue = "1") int page,
-            @RequestParam(required = false, defaultValue = "10") int size
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ){
         Member member = securityUtil.getUser();
-        List<PostResponseDto.MyPost> posts = postQueryService.getMyPosts(member, page, size);
-        return PostResponseDto.MyPostResponseDto.builder()
-                .page((long) page)
-                .size((long) size)
-                .post(posts)
-                .build();
+        return postQueryService.getMyPosts(member, page, size, cursor);
     }
 
     @GetMapping("")
     public PostResponseDto.MyPostResponseDto getTotalPost(
             @RequestParam(required = false, defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "10") int size,
-            @RequestParam(required = false, defaultValue = "latest") String sort
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor
     ){
-        List<PostResponseDto.MyPost> sortPages = postQueryService.getTotalPostBySort(page, size, sort);
-        return PostResponseDto.MyPostResponseDto.builder()
-                .page((long) page)
-                .size((long) size)
-                .post(sortPages)
-                .build();
+        return postQueryService.getTotalPostBySort(page, size, sort, cursor);
     }
 
     @GetMapping("/search")
@@ -7,14 +7,17 @@ import com.favoriteplace.app.dto.UserInfoResponseDto;
 import com.favoriteplace.app.dto.community.CommentResponseDto;
 import com.favoriteplace.app.dto.community.GuestBookResponseDto;
 import com.favoriteplace.app.dto.community.PostResponseDto;
+import com.favoriteplace.global.profile.MemberProfileCard;
 import com.favoriteplace.global.util.DateTimeFormatUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class CommentConverter {
 
-    public static CommentResponseDto.ParentComment toComment(Comment comment, Member member, List<Comment> subComments){
+    public static CommentResponseDto.ParentComment toComment(Comment comment, Member member, List<Comment> subComments,
+                                                           Map<Long, MemberProfileCard> profiles){
         if(comment.getIsDeleted()){
             return CommentResponseDto.ParentComment.builder()
                     .userInfo(hideUserInfo(comment))
@@ -22,22 +25,23 @@ public class CommentConverter {
                     .content("[삭제된 댓글입니다.]")
                     .passedTime(null)
                     .isWrite(null)
-                    .subComments(toSubComments(subComments, member))
+                    .subComments(toSubComments(subComments, member, profiles))
                     .build();
         }
         else{
             return CommentResponseDto.ParentComment.builder()
-                    .userInfo(showUserInfo(comment))
+                    .userInfo(showUserInfo(comment, profiles))
                     .id(comment.getId())
                     .content(comment.getContent())
                     .passedTime(DateTimeFormatUtils.getPassDateTime(comment.getCreatedAt()))
                     .isWrite(isCommentWriter(member, comment))
-                    .subComments(toSubComments(subComments, member))
+                    .subComments(toSubComments(subComments, member, profiles))
                     .build();
         }
     }
 
-    public static List<CommentResponseDto.SubComment> toSubComments(List<Comment> subComments, Member member){
+    public static List<CommentResponseDto.SubComment> toSubComments(List<Comment> subComments, Member member,
+                                                                   Map<Long, MemberProfileCard> profiles){
         if (subComments.isEmpty()){return Collections.emptyList();}
         return subComments.stream().map(comment -> {
             if(comment.getIsDeleted()){
@@ -52,12 +56,13 @@ public class CommentConverter {
             }
             else{
                 return CommentResponseDto.SubComment.builder()
-                        .userInfo(showUserInfo(comment))
+                        .userInfo(showUserInfo(comment, profiles))
                         .id(comment.getId())
                         .content(comment.getContent())
                         .passedTime(DateTimeFormatUtils.getPassDateTime(comment.getCreatedAt()))
                         .isWrite(isCommentWriter(member, comment))
-                        .referenceNickname(comment.getReferenceComment()==null ? null : comment.getReferenceComment().getMember().getNickname())
+                        .referenceNickname(comment.getReferenceComment()==null ? null
+                                : profiles.get(comment.getReferenceComment().getMember().getId()).getNickname())
                         .build();
             }
         }).toList();
@@ -75,7 +80,7 @@ public class CommentConverter {
                         .nickname(guestBook.getMember().getNickname())
                         .views(guestBook.getView())
                         .likes(guestBook.getLikeCount())
-                        .comments(getNotDeletedComment(guestBook.getComments()))
+                        .comments(guestBook.getCommentCount())
                         .passedTime(DateTimeFormatUtils.getPassDateTime(guestBook.getCreatedAt()))
                         .build())
                 .build();
@@ -112,20 +117,10 @@ public class CommentConverter {
                 .build();
     }
 
-    public static UserInfoResponseDto showUserInfo(Comment comment){
-        Member member = comment.getMember();
-        return UserInfoResponseDto.builder()
-                .id(member.getId())
-                .nickname(member.getNickname())
-                .profileImageUrl(member.getProfileImageUrl())
-                .profileTitleUrl(member.getProfileTitle()!= null ? member.getProfileTitle().getDefaultImage().getUrl() : null)
-                .profileIconUrl(member.getProfileIcon()!= null ? member.getProfileIcon().getDefaultImage().getUrl() : null)
-                .build();
-    }
-
-    private static long getNotDeletedComment(List<Comment> comments){
-        return comments.stream()
-                .filter(comment -> !comment.getIsDeleted())
-                .count();
+    /**
+     * 작성자 정보는 프로필 캐시에서 가져옴 (댓글 조회 시 사용자 정보는 id 만 사용)
+     */
+    public static UserInfoResponseDto showUserInfo(Comment comment, Map<Long, MemberProfileCard> profiles){
+        return UserInfoResponseDto.of(profiles.get(comment.getMember().getId()));
     }
 }
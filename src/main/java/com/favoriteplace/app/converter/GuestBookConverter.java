@@ -1,12 +1,13 @@
 package com.favoriteplace.app.converter;
 
 import com.favoriteplace.app.domain.Image;
-import com.favoriteplace.app.domain.community.Comment;
 import com.favoriteplace.app.domain.community.GuestBook;
 import com.favoriteplace.app.domain.community.HashTag;
 import com.favoriteplace.app.domain.travel.Pilgrimage;
 import com.favoriteplace.app.dto.UserInfoResponseDto;
 import com.favoriteplace.app.dto.community.GuestBookResponseDto;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
+import com.favoriteplace.global.profile.MemberProfileCard;
 import com.favoriteplace.global.util.DateTimeFormatUtils;
 
 import java.util.List;
@@ -19,7 +20,7 @@ public class GuestBookConverter {
                 .nickname(guestBook.getMember().getNickname())
                 .views(guestBook.getView())
                 .likes(guestBook.getLikeCount())
-                .comments(getNotDeletedComment(guestBook.getComments()))
+                .comments(guestBook.getCommentCount())
                 .passedTime(DateTimeFormatUtils.getPassDateTime(guestBook.getCreatedAt()))
                 .build();
     }
@@ -31,7 +32,7 @@ public class GuestBookConverter {
                 .content(guestBook.getContent())
                 .views(guestBook.getView())
                 .likes(guestBook.getLikeCount())
-                .comments(getNotDeletedComment(guestBook.getComments()))
+                .comments(guestBook.getCommentCount())
                 .isLike(isLike)
                 .isWrite(isWrite)
                 .passedTime(DateTimeFormatUtils.getPassDateTime(guestBook.getCreatedAt()))
@@ -40,6 +41,22 @@ public class GuestBookConverter {
                 .build();
     }
 
+    public static GuestBookResponseDto.PilgrimageInfo toPilgrimageInfo(
+            CatalogSnapshot.PilgrimageEntry pilgrimage, CatalogSnapshot.RallyEntry rally, Long completeNumber){
+        return GuestBookResponseDto.PilgrimageInfo.builder()
+                .name(pilgrimage.getRallyName())
+                .pilgrimageNumber(rally.getPilgrimageNumber())
+                .completeNumber(completeNumber)
+                .address(pilgrimage.getDetailAddress())
+                .latitude(pilgrimage.getLatitude())
+                .longitude(pilgrimage.getLongitude())
+                .imageAnime(pilgrimage.getVirtualImageUrl())
+                .imageReal(pilgrimage.getRealImageUrl())
+                .addressEn(pilgrimage.getDetailAddressEn())
+                .addressJp(pilgrimage.getDetailAddressJp())
+                .build();
+    }
+
     public static GuestBookResponseDto.PilgrimageInfo toPilgrimageInfo(Pilgrimage pilgrimage, Long completeNumber){
         return GuestBookResponseDto.PilgrimageInfo.builder()
                 .name(pilgrimage.getRallyName())
@@ -55,34 +72,29 @@ public class GuestBookConverter {
                 .build();
     }
 
-    public static GuestBookResponseDto.TotalGuestBookInfo toTotalGuestBookInfo(GuestBook guestBook){
+    public static GuestBookResponseDto.TotalGuestBookInfo toTotalGuestBookInfo(GuestBook guestBook, String thumbnail,
+                                                                           List<String> hashTags){
         return GuestBookResponseDto.TotalGuestBookInfo.builder()
                 .id(guestBook.getId())
                 .title(guestBook.getTitle())
                 .nickname(guestBook.getMember().getNickname())
-                .thumbnail(!guestBook.getImages().isEmpty() ? guestBook.getImages().get(0).getUrl() : null)
+                .thumbnail(thumbnail)
                 .views(guestBook.getView())
                 .likes(guestBook.getLikeCount())
-                .comments(getNotDeletedComment(guestBook.getComments()))
+                .comments(guestBook.getCommentCount())
                 .passedTime(DateTimeFormatUtils.getPassDateTime(guestBook.getCreatedAt()))
-                .hashTags(guestBook.getHashTags().stream().map(HashTag::getTagName).toList())
+                .hashTags(hashTags)
                 .build();
     }
 
-    public static GuestBookResponseDto.DetailGuestBookDto toDetailGuestBookInfo(GuestBook guestBook, boolean isLike,
+    public static GuestBookResponseDto.DetailGuestBookDto toDetailGuestBookInfo(GuestBook guestBook, MemberProfileCard writer, boolean isLike,
                                 boolean isWrite, GuestBookResponseDto.PilgrimageInfo pilgrimageInfo){
         return GuestBookResponseDto.DetailGuestBookDto.builder()
-                .userInfo(UserInfoResponseDto.of(guestBook.getMember()))
+                .userInfo(UserInfoResponseDto.of(writer))
                 .pilgrimage(pilgrimageInfo)
                 .guestBook(toGuestBookInfo(guestBook, isLike, isWrite))
                 .build();
 
     }
 
-    private static long getNotDeletedComment(List<Comment> comments){
-        return comments.stream()
-                .filter(comment -> !comment.getIsDeleted())
-                .count();
-    }
-
 }
@@ -8,6 +8,10 @@ import com.favoriteplace.app.domain.travel.Pilgrimage;
 import com.favoriteplace.app.domain.travel.Rally;
 import com.favoriteplace.app.dto.community.GuestBookResponseDto;
 import com.favoriteplace.app.dto.travel.PilgrimageDto;
+import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
+import com.favoriteplace.app.repository.VisitedPilgrimageRepository;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
+import com.favoriteplace.global.geo.PilgrimageSpatialIndex;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +35,25 @@ public class PilgrimageConverter {
                 .build();
     }
 
+    public static PilgrimageDto.PilgrimageDetailDto toPilgrimageDetailDto(
+            CatalogSnapshot.PilgrimageEntry pilgrimage, CatalogSnapshot.RallyEntry rally, Long myPilgrimageNumber){
+        return PilgrimageDto.PilgrimageDetailDto.builder()
+                .rallyName(rally.getName())
+                .pilgrimageNumber(rally.getPilgrimageNumber())
+                .myPilgrimageNumber(myPilgrimageNumber)
+                .image(pilgrimage.getVirtualImageUrl())
+                .realImage(pilgrimage.getRealImageUrl())
+                .address(pilgrimage.getDetailAddress())
+                .addressEn(pilgrimage.getDetailAddressEn())
+                .addressJp(pilgrimage.getDetailAddressJp())
+                .latitude(pilgrimage.getLatitude())
+                .longitude(pilgrimage.getLongitude())
+                .isCertified(true)
+                .isWritable(false)
+                .isMultiWritable(false)
+                .build();
+    }
+
     // 내 성지순례 (비회원)
     public static PilgrimageDto.MyPilgrimageDto toMyPilgrimageDto() {
         return PilgrimageDto.MyPilgrimageDto.builder()
@@ -60,6 +83,14 @@ public class PilgrimageConverter {
                 .build();
     }
 
+    public static PilgrimageDto.LikedRallyDto toLikedRallyDto(CatalogSnapshot.RallyEntry rally){
+        return PilgrimageDto.LikedRallyDto.builder()
+                .id(rally.getId())
+                .name(rally.getName())
+                .image(rally.getImageUrl())
+                .build();
+    }
+
     // 날짜 규격대로 변경 필요함
     public static PilgrimageDto.MyGuestBookDto toMyGuestBookDto(GuestBook guestBook, Image mainImg, List<String> hashTags){
         return PilgrimageDto.MyGuestBookDto.builder()
@@ -85,6 +116,24 @@ public class PilgrimageConverter {
                 .build();
     }
 
+    public static PilgrimageDto.PilgrimageAddressDetailDto toPilgrimageAddressDetailDto(CatalogSnapshot.AddressEntry address){
+        return PilgrimageDto.PilgrimageAddressDetailDto.builder()
+                .id(address.getId())
+                .district(address.getDistrict())
+                .build();
+    }
+
+    public static PilgrimageDto.PilgrimageCategoryRegionDetailDto toPilgrimageCategoryRegionDetailDto(String title, CatalogSnapshot.PilgrimageEntry pilgrimage){
+        return PilgrimageDto.PilgrimageCategoryRegionDetailDto.builder()
+                .id(pilgrimage.getId())
+                .title(title)
+                .detailAddress(pilgrimage.getDetailAddress())
+                .image(pilgrimage.getVirtualImageUrl())
+                .latitude(pilgrimage.getLatitude())
+                .longitude(pilgrimage.getLongitude())
+                .build();
+    }
+
     public static PilgrimageDto.PilgrimageCategoryRegionDetailDto toPilgrimageCategoryRegionDetailDto(String title, Pilgrimage pilgrimage){
         return PilgrimageDto.PilgrimageCategoryRegionDetailDto.builder()
                 .id(pilgrimage.getId())
@@ -96,4 +145,21 @@ public class PilgrimageConverter {
                 .build();
     }
 
+    public static PilgrimageDto.PilgrimageNearbyDto toPilgrimageNearbyDto(PilgrimageSpatialIndex.Nearby nearby){
+        return PilgrimageDto.PilgrimageNearbyDto.builder()
+                .id(nearby.getPoint().getId())
+                .rallyName(nearby.getPoint().getRallyName())
+                .latitude(nearby.getPoint().getLatitude())
+                .longitude(nearby.getPoint().getLongitude())
+                .distance(Math.round(nearby.getDistance()))
+                .build();
+    }
+
+    public static PilgrimageSocketDto.EligibilitySnapshot toEligibilitySnapshot(VisitedPilgrimageRepository.EligibilityView view){
+        return new PilgrimageSocketDto.EligibilitySnapshot(
+                view.getLastVisitedAt(),
+                view.getLastGuestBookAt(),
+                view.getGuestBookCount() == null ? 0L : view.getGuestBookCount());
+    }
+
 }
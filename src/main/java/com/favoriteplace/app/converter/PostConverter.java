@@ -1,10 +1,10 @@
 package com.favoriteplace.app.converter;
 
 import com.favoriteplace.app.domain.Image;
-import com.favoriteplace.app.domain.community.Comment;
 import com.favoriteplace.app.domain.community.Post;
 import com.favoriteplace.app.dto.UserInfoResponseDto;
 import com.favoriteplace.app.dto.community.PostResponseDto;
+import com.favoriteplace.global.profile.MemberProfileCard;
 import com.favoriteplace.global.util.DateTimeFormatUtils;
 
 import java.util.Collections;
@@ -20,14 +20,14 @@ public class PostConverter {
                 .nickname(post.getMember().getNickname())
                 .views(post.getView())
                 .likes(post.getLikeCount())
-                .comments(getNotDeletedComment(post.getComments()))
+                .comments(post.getCommentCount())
                 .passedTime(DateTimeFormatUtils.getPassDateTime(post.getCreatedAt())).build();
     }
 
     public static PostResponseDto.PostDetailResponseDto toPostDetailResponse(
-            Post post, boolean isLike, boolean isWriter){
+            Post post, MemberProfileCard writer, boolean isLike, boolean isWriter){
         return PostResponseDto.PostDetailResponseDto.builder()
-                .userInfo(UserInfoResponseDto.of(post.getMember()))
+                .userInfo(UserInfoResponseDto.of(writer))
                 .postInfo(toPostInfo(post, isLike, isWriter))
                 .build();
     }
@@ -42,17 +42,11 @@ public class PostConverter {
                 .content(post.getContent())
                 .view(post.getView())
                 .likes(post.getLikeCount())
-                .comments(getNotDeletedComment(post.getComments()))
+                .comments(post.getCommentCount())
                 .isLike(isLike)
                 .isWrite(isWrite)
                 .passedTime(DateTimeFormatUtils.getPassDateTime(post.getCreatedAt()))
                 .image(images)
                 .build();
     }
-
-    private static long getNotDeletedComment(List<Comment> comments){
-        return comments.stream()
-                .filter(comment -> !comment.getIsDeleted())
-                .count();
-    }
 }
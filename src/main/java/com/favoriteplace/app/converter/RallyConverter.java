@@ -5,8 +5,11 @@ import com.favoriteplace.app.domain.travel.Pilgrimage;
 import com.favoriteplace.app.domain.travel.Rally;
 import com.favoriteplace.app.dto.travel.PilgrimageDto;
 import com.favoriteplace.app.dto.travel.RallyDto;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class RallyConverter {
     public static RallyDto.RallyTrendingDto toRallyTrendingDto(Rally rally, Long myPilgrimageNumber){
@@ -18,6 +21,16 @@ public class RallyConverter {
                 .image(rally.getImage().getUrl())
                 .build();
     }
+    public static RallyDto.RallyTrendingDto toRallyTrendingDto(CatalogSnapshot.RallyEntry rally, Long myPilgrimageNumber){
+        return RallyDto.RallyTrendingDto.builder()
+                .id(rally.getId())
+                .name(rally.getName())
+                .pilgrimageNumber(rally.getPilgrimageNumber())
+                .myPilgrimageNumber(myPilgrimageNumber)
+                .image(rally.getImageUrl())
+                .build();
+    }
+
     public static RallyDto.RallyDetailResponseDto toRallyDetailResponseDto(Rally rally, Long myPilgrimageNumber, Boolean isLike, Boolean isMember){
         // 회원
         if (isMember) {
@@ -72,6 +85,56 @@ public class RallyConverter {
                 .build();
     }
 
+    public static RallyDto.RallyAddressPilgrimageDto toRallyAddressPilgrimageDto(CatalogSnapshot.PilgrimageEntry pilgrimage){
+        return RallyDto.RallyAddressPilgrimageDto.builder()
+                .id(pilgrimage.getId())
+                .detailAddress(pilgrimage.getDetailAddress())
+                .image(pilgrimage.getVirtualImageUrl())
+                .isVisited(false)
+                .build();
+    }
+
+    public static RallyDto.RallyAddressDto toRallyAddressDto(CatalogSnapshot.AddressEntry address, List<RallyDto.RallyAddressPilgrimageDto> pilgrimageList){
+        return RallyDto.RallyAddressDto.builder()
+                .address(address.getState()+" "+address.getDistrict())
+                .pilgrimage(pilgrimageList)
+                .build();
+    }
+
+    public static RallyDto.RallyAddressListDto toRallyAddressListDto(CatalogSnapshot.RallyEntry rally, List<RallyDto.RallyAddressDto> dtos, Long myPilgrimageNumber){
+        return RallyDto.RallyAddressListDto.builder()
+                .name(rally.getName())
+                .pilgrimageNumber(rally.getPilgrimageNumber())
+                .myPilgrimageNumber(myPilgrimageNumber)
+                .image(rally.getImageUrl())
+                .rally(dtos)
+                .build();
+    }
+
+    // 캐시된 랠리 지도를 복사하면서 사용자의 방문 여부 채우기
+    public static RallyDto.RallyAddressListDto toRallyAddressListDto(RallyDto.RallyAddressListDto rallyMap, Set<Long> visitedPilgrimageIds, Long myPilgrimageNumber){
+        List<RallyDto.RallyAddressDto> dtos = rallyMap.getRally().stream()
+                .map(address -> RallyDto.RallyAddressDto.builder()
+                        .address(address.getAddress())
+                        .pilgrimage(address.getPilgrimage().stream()
+                                .map(pilgrimage -> RallyDto.RallyAddressPilgrimageDto.builder()
+                                        .id(pilgrimage.getId())
+                                        .detailAddress(pilgrimage.getDetailAddress())
+                                        .image(pilgrimage.getImage())
+                                        .isVisited(visitedPilgrimageIds.contains(pilgrimage.getId()))
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+        return RallyDto.RallyAddressListDto.builder()
+                .name(rallyMap.getName())
+                .pilgrimageNumber(rallyMap.getPilgrimageNumber())
+                .myPilgrimageNumber(myPilgrimageNumber)
+                .image(rallyMap.getImage())
+                .rally(dtos)
+                .build();
+    }
+
     public static RallyDto.PilgrimageCategoryAnimeDto toPilgrimageCategoryAnimeDto(Rally rally, Long myPilgrimageNumber){
         return RallyDto.PilgrimageCategoryAnimeDto.builder()
                 .id(rally.getId())
@@ -82,6 +145,16 @@ public class RallyConverter {
                 .build();
     }
 
+    public static RallyDto.PilgrimageCategoryAnimeDto toPilgrimageCategoryAnimeDto(CatalogSnapshot.RallyEntry rally, Long myPilgrimageNumber){
+        return RallyDto.PilgrimageCategoryAnimeDto.builder()
+                .id(rally.getId())
+                .name(rally.getName())
+                .pilgrimageNumber(rally.getPilgrimageNumber())
+                .myPilgrimageNumber(myPilgrimageNumber)
+                .image(rally.getImageUrl())
+                .build();
+    }
+
     public static RallyDto.SearchAnimeDto toSearchAnimeDto(Rally rally, Long visitedPilgrimages) {
         return RallyDto.SearchAnimeDto.builder()
                 .name(rally.getName())
@@ -91,6 +164,15 @@ public class RallyConverter {
                 .build();
     }
 
+    public static RallyDto.SearchAnimeDto toSearchAnimeDto(CatalogSnapshot.RallyEntry rally, Long visitedPilgrimages) {
+        return RallyDto.SearchAnimeDto.builder()
+                .name(rally.getName())
+                .pilgrimageNumber(rally.getPilgrimageNumber())
+                .myPilgrimageNumber(visitedPilgrimages)
+                .image(rally.getImageUrl())
+                .build();
+    }
+
     public static RallyDto.SearchRegionDto toSearchRegionDto(String name, List<RallyDto.SearchRegionDetailDto> pilgrimages) {
         return RallyDto.SearchRegionDto.builder()
                 .address(name)
@@ -98,6 +180,14 @@ public class RallyConverter {
                 .build();
     }
 
+    public static RallyDto.SearchRegionDetailDto toSearchRegionDetailDto(CatalogSnapshot.PilgrimageEntry pilgrimage){
+        return RallyDto.SearchRegionDetailDto.builder()
+                .name(pilgrimage.getRallyName())
+                .image(pilgrimage.getVirtualImageUrl())
+                .detailAddress(pilgrimage.getDetailAddress())
+                .build();
+    }
+
     public static RallyDto.SearchRegionDetailDto toSearchRegionDetailDto(Pilgrimage pilgrimage){
         return RallyDto.SearchRegionDetailDto.builder()
                 .name(pilgrimage.getRallyName())
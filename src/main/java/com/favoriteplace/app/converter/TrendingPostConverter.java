@@ -4,6 +4,7 @@ import com.favoriteplace.app.domain.community.GuestBook;
 import com.favoriteplace.app.domain.community.HashTag;
 import com.favoriteplace.app.domain.community.Post;
 import com.favoriteplace.app.dto.HomeResponseDto;
+import com.favoriteplace.global.profile.MemberProfileCard;
 import com.favoriteplace.global.util.DateTimeFormatUtils;
 
 import java.util.ArrayList;
@@ -11,21 +12,21 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class TrendingPostConverter {
-    public static HomeResponseDto.TrendingPost toGuestBookTrending(GuestBook guestBook, int rank){
+    public static HomeResponseDto.TrendingPost toGuestBookTrending(GuestBook guestBook, MemberProfileCard writer, int rank){
         return HomeResponseDto.TrendingPost.builder()
                 .id(guestBook.getId()).rank(rank).title(guestBook.getTitle())
-                .profileImageUrl(guestBook.getMember().getProfileImageUrl())
-                .profileIconUrl(guestBook.getMember().getProfileIcon() != null ? guestBook.getMember().getProfileIcon().getDefaultImage().getUrl() : null)
+                .profileImageUrl(writer.getProfileImageUrl())
+                .profileIconUrl(writer.getProfileIconUrl())
                 .hashtags(guestBook.getHashTags().stream().map(HashTag::getTagName).toList())
                 .passedTime(DateTimeFormatUtils.getPassDateTime(guestBook.getCreatedAt()))
                 .board("성지순례 인증").build();
     }
 
-    public static HomeResponseDto.TrendingPost toGuestBookTrending(Post post, int rank){
+    public static HomeResponseDto.TrendingPost toGuestBookTrending(Post post, MemberProfileCard writer, int rank){
         return HomeResponseDto.TrendingPost.builder()
                 .id(post.getId()).rank(rank).title(post.getTitle())
-                .profileImageUrl(post.getMember().getProfileImageUrl())
-                .profileIconUrl(post.getMember().getProfileIcon() != null ? post.getMember().getProfileIcon().getDefaultImage().getUrl() : null)
+                .profileImageUrl(writer.getProfileImageUrl())
+                .profileIconUrl(writer.getProfileIconUrl())
                 .hashtags(new ArrayList<>())
                 .passedTime(DateTimeFormatUtils.getPassDateTime(post.getCreatedAt()))
                 .board("자유게시판").build();
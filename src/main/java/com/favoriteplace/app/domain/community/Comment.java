@@ -27,7 +27,11 @@ import java.util.List;
 @NoArgsConstructor(access = PROTECTED)
 @AllArgsConstructor(access = PRIVATE)
 @Entity
-
+@Table(indexes = {
+        @Index(name = "idx_comment_post_parent_created_at", columnList = "post_id, parent_comment_id, created_at, comment_id"),
+        @Index(name = "idx_comment_guest_book_parent_created_at", columnList = "guest_book_id, parent_comment_id, created_at, comment_id"),
+        @Index(name = "idx_comment_member_created_at", columnList = "member_id, created_at, comment_id")
+})
 public class Comment extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = IDENTITY)
@@ -14,21 +14,29 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Builder
 @NoArgsConstructor(access = PROTECTED)
 @AllArgsConstructor(access = PRIVATE)
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_guestbook_created_at", columnList = "created_at, guestbook_id"),
+        @Index(name = "idx_guestbook_like_count", columnList = "like_count, guestbook_id"),
+        @Index(name = "idx_guestbook_member_created_at", columnList = "member_id, created_at, guestbook_id")
+})
 public class GuestBook extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = IDENTITY)
@@ -55,6 +63,12 @@ public class GuestBook extends BaseTimeEntity {
     @Column(nullable = false)
     private Long view;
 
+    // 삭제되지 않은 댓글 수, update 쿼리로만 변경 (엔티티 저장 시 오래된 값으로 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long commentCount = 0L;
+
     @OneToMany(mappedBy = "guestBook", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     List<HashTag> hashTags = new ArrayList<>();
@@ -0,0 +1,6 @@
+package com.favoriteplace.app.domain.enums;
+
+public enum CertificationEventType {
+    VISIT_POINT,    //성지순례 인증 포인트 지급
+    RALLY_COMPLETE  //랠리 완료 (칭호, 포인트, 완료 랠리, 달성자 수)
+}
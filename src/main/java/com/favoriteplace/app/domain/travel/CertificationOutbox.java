@@ -0,0 +1,70 @@
+package com.favoriteplace.app.domain.travel;
+
+import com.favoriteplace.app.domain.common.BaseTimeEntity;
+import com.favoriteplace.app.domain.enums.CertificationEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 성지순례 인증 후속 처리 대기열 (transactional outbox)
+ * 방문 기록과 같은 트랜잭션에 저장하고, CertificationOutboxProcessor가 모아서 처리한 뒤 삭제
+ * 처리에 계속 실패하는 이벤트는 deadLetteredAt 을 남기고 더 이상 가져가지 않음
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = PROTECTED)
+@AllArgsConstructor(access = PRIVATE)
+public class CertificationOutbox extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "certification_outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CertificationEventType type;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "rally_id", nullable = false)
+    private Long rallyId;
+
+    @Column(name = "pilgrimage_id", nullable = false)
+    private Long pilgrimageId;
+
+    @Column(nullable = false)
+    private Long point;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime deadLetteredAt;
+
+    /**
+     * 처리 실패 기록, 최대 시도 횟수에 도달하면 dead letter 로 표시
+     * @return dead letter 로 표시되었는지
+     */
+    public boolean fail(String error, int maxAttempts) {
+        this.attemptCount += 1;
+        this.lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        if (this.attemptCount >= maxAttempts)
+            this.deadLetteredAt = LocalDateTime.now();
+        return this.deadLetteredAt != null;
+    }
+}
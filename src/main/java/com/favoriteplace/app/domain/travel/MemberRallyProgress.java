@@ -0,0 +1,44 @@
+package com.favoriteplace.app.domain.travel;
+
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.PRIVATE;
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 사용자별 랠리 진행도 (방문한 서로 다른 성지순례 수)
+ * 새로운 성지순례를 인증할 때마다 증가시켜 count(distinct) 집계를 대신함
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = PROTECTED)
+@AllArgsConstructor(access = PRIVATE)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_member_rally_progress", columnNames = {"member_id", "rally_id"}))
+public class MemberRallyProgress extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_rally_progress_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rally_id", nullable = false)
+    private Rally rally;
+
+    @Column(nullable = false)
+    private Long distinctVisitedCount;
+
+    private LocalDateTime completedAt;  //모든 성지순례를 처음 방문한 시점
+}
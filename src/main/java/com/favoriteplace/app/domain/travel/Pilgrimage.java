@@ -19,6 +19,7 @@ import static lombok.AccessLevel.PROTECTED;
 @NoArgsConstructor(access = PROTECTED)
 @AllArgsConstructor(access = PRIVATE)
 public class Pilgrimage extends BaseTimeEntity {
+    public static final double DEFAULT_CERTIFY_RADIUS_METER = 100.0;
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "pilgrimage_id")
@@ -58,4 +59,12 @@ public class Pilgrimage extends BaseTimeEntity {
     @Column(nullable = false)
     private Double longitude;
 
+    // 인증 가능 반경(m), 지정하지 않으면 100m
+    @Column(name = "certify_radius")
+    private Double certifyRadius;
+
+    public double getCertifyRadiusMeter() {
+        return certifyRadius == null ? DEFAULT_CERTIFY_RADIUS_METER : certifyRadius;
+    }
+
 }
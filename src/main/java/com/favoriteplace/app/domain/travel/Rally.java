@@ -36,6 +36,12 @@ public class Rally extends BaseTimeEntity {
     @Column(nullable = false)
     private String name;  //애니메이션 이름
 
+    @Column(name = "name_en")
+    private String nameEn;  //애니메이션 영어 이름 (검색용)
+
+    @Column(name = "name_jp")
+    private String nameJp;  //애니메이션 일본어 이름 (검색용)
+
     @Column(nullable = false)
     private String description;
 
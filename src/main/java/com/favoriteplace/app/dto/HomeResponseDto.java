@@ -1,6 +1,7 @@
 package com.favoriteplace.app.dto;
 
 import com.favoriteplace.app.domain.travel.Rally;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
 import lombok.*;
 
 import java.util.List;
@@ -32,6 +33,16 @@ public class HomeResponseDto {
                     .build();
         }
 
+        public static HomeRally of(CatalogSnapshot.RallyEntry rally, Long completeNumber){
+            return HomeRally.builder()
+                    .id(rally.getId())
+                    .name(rally.getName())
+                    .backgroundImageUrl(rally.getImageUrl())
+                    .pilgrimageNumber(rally.getPilgrimageNumber())
+                    .completeNumber(completeNumber)
+                    .build();
+        }
+
     }
 
     @Getter
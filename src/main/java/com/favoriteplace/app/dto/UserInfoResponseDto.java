@@ -1,6 +1,7 @@
 package com.favoriteplace.app.dto;
 
 import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.global.profile.MemberProfileCard;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -23,4 +24,14 @@ public class UserInfoResponseDto {
                 .build();
     }
 
+    public static UserInfoResponseDto of(MemberProfileCard card) {
+        return UserInfoResponseDto.builder()
+                .id(card.getMemberId())
+                .nickname(card.getNickname())
+                .profileImageUrl(card.getProfileImageUrl())
+                .profileTitleUrl(card.getProfileTitleUrl())
+                .profileIconUrl(card.getProfileIconUrl())
+                .build();
+    }
+
 }
@@ -17,6 +17,7 @@ public class CommentResponseDto {
         private Long page;
         private Long size;
         private List<ParentComment> parentComment;
+        private String nextCursor;  //다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Getter
@@ -18,6 +18,7 @@ public class GuestBookResponseDto {
         private Long page;
         private Long size;
         private List<MyGuestBookComment> comment;
+        private String nextCursor;  //다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Builder
@@ -53,6 +54,7 @@ public class GuestBookResponseDto {
         private Long page;
         private Long size;
         private List<MyGuestBookInfo> myGuestBookInfo;
+        private String nextCursor;  //다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Getter
@@ -108,6 +110,7 @@ public class GuestBookResponseDto {
         private Long page;
         private Long size;
         private List<TotalGuestBookInfo> guestBook;
+        private String nextCursor;  //다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Getter
@@ -50,6 +50,7 @@ public class PostResponseDto {
         private Long page;
         private Long size;
         private List<MyComment>comment;
+        private String nextCursor;  //다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Getter
@@ -71,6 +72,7 @@ public class PostResponseDto {
         private Long page;
         private Long size;
         private List<MyPost> post;
+        private String nextCursor;  //다음 페이지 커서 (마지막 페이지면 null)
     }
 
     @Getter
@@ -94,6 +94,18 @@ public class PilgrimageDto {
         Double longitude;
     }
 
+    @Builder
+    @Getter
+    @NoArgsConstructor(access = PROTECTED)
+    @AllArgsConstructor(access = PRIVATE)
+    public static class PilgrimageNearbyDto {
+        Long id;
+        String rallyName;
+        Double latitude;
+        Double longitude;
+        Long distance;
+    }
+
     @Getter
     @NoArgsConstructor(access = PROTECTED)
     @AllArgsConstructor(access = PRIVATE)
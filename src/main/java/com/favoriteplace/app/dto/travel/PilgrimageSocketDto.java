@@ -2,6 +2,7 @@ package com.favoriteplace.app.dto.travel;
 
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 public class PilgrimageSocketDto {
@@ -39,4 +40,13 @@ public class PilgrimageSocketDto {
         private Boolean isComplete;
         private String message;
     }
+
+    // 버튼 상태 계산에 필요한 (사용자, 성지순례) 인증/방명록 요약
+    @Getter
+    @AllArgsConstructor
+    public static class EligibilitySnapshot {
+        private final LocalDateTime lastVisitedAt;
+        private final LocalDateTime lastGuestBookAt;
+        private final long guestBookCount;
+    }
 }
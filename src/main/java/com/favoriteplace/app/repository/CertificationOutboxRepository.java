@@ -0,0 +1,30 @@
+package com.favoriteplace.app.repository;
+
+import com.favoriteplace.app.domain.travel.CertificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CertificationOutboxRepository extends JpaRepository<CertificationOutbox, Long> {
+    // 여러 인스턴스가 동시에 처리해도 같은 이벤트를 가져가지 않도록 FOR UPDATE SKIP LOCKED (lock timeout -2)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from CertificationOutbox o where o.deadLetteredAt is null order by o.id")
+    List<CertificationOutbox> findPendingForUpdate(Pageable pageable);
+
+    // 배치 처리가 실패했을 때 하나씩 다시 처리하기 위해 잠금 (다른 인스턴스가 처리 중이거나 이미 삭제됐으면 empty)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from CertificationOutbox o where o.id = :id and o.deadLetteredAt is null")
+    Optional<CertificationOutbox> findPendingForUpdateById(@Param("id") Long id);
+}
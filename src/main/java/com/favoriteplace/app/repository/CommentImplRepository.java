@@ -4,8 +4,10 @@ import com.favoriteplace.app.domain.community.Comment;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import com.favoriteplace.global.util.FeedCursor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,70 +23,112 @@ public class CommentImplRepository {
                         " join fetch c.post p" +
                         " join fetch p.member m" +
                         " where c.member.id = :memberId and c.guestBook.id is null and c.isDeleted != true" +
-                        " order by c.createdAt desc", Comment.class)
+                        " order by c.createdAt desc, c.id desc", Comment.class)
                 .setParameter("memberId", memberId)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<Comment> findMyPostComments(Long memberId, FeedCursor cursor, int size) {
+        return em.createQuery(
+                "select c from Comment c" +
+                        " join fetch c.post p" +
+                        " join fetch p.member m" +
+                        " where c.member.id = :memberId and c.guestBook.id is null and c.isDeleted != true" +
+                        " and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))" +
+                        " order by c.createdAt desc, c.id desc", Comment.class)
+                .setParameter("memberId", memberId)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<Comment> findMyGuestBookComments(Long memberId, int page, int size) {
         return em.createQuery(
                 "select c from Comment c" +
                         " join fetch c.guestBook g" +
                         " join fetch g.member m" +
                         " where c.member.id = :memberId and c.post.id is null and c.isDeleted != true" +
-                        " order by c.createdAt desc", Comment.class)
+                        " order by c.createdAt desc, c.id desc", Comment.class)
                 .setParameter("memberId", memberId)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<Comment> findMyGuestBookComments(Long memberId, FeedCursor cursor, int size) {
+        return em.createQuery(
+                "select c from Comment c" +
+                        " join fetch c.guestBook g" +
+                        " join fetch g.member m" +
+                        " where c.member.id = :memberId and c.post.id is null and c.isDeleted != true" +
+                        " and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))" +
+                        " order by c.createdAt desc, c.id desc", Comment.class)
+                .setParameter("memberId", memberId)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<Comment> findParentCommentsByPostId(Long postId, int page, int size) {
         return em.createQuery(
                         "select c from Comment c" +
-                                " join fetch c.member m" +
-                                " left join fetch m.profileIcon pi" +
-                                " left join fetch m.profileTitle pt" +
-                                " left join fetch pi.defaultImage pii" +
-                                " left join fetch pt.defaultImage pti" +
                                 " where c.post.id = :postId and c.parentComment = null" +
-                                " order by c.createdAt asc", Comment.class)
+                                " order by c.createdAt asc, c.id asc", Comment.class)
                 .setParameter("postId", postId)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<Comment> findParentCommentsByPostId(Long postId, FeedCursor cursor, int size) {
+        return em.createQuery(
+                        "select c from Comment c" +
+                                " where c.post.id = :postId and c.parentComment = null" +
+                                " and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))" +
+                                " order by c.createdAt asc, c.id asc", Comment.class)
+                .setParameter("postId", postId)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<Comment> findParentCommentByGuestBookId(Long guestbookId, int page, int size) {
         return em.createQuery(
                         "select c from Comment c" +
-                                " join fetch c.member m" +
-                                " left join fetch m.profileIcon pi" +
-                                " left join fetch m.profileTitle pt" +
-                                " left join fetch pi.defaultImage pii" +
-                                " left join fetch pt.defaultImage pti" +
                                 " where c.guestBook.id = :guestbookId and c.parentComment = null" +
-                                " order by c.createdAt asc", Comment.class)
+                                " order by c.createdAt asc, c.id asc", Comment.class)
                 .setParameter("guestbookId", guestbookId)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
-    public List<Comment> findSubCommentByCommentId(Long commentId){
+    public List<Comment> findParentCommentByGuestBookId(Long guestbookId, FeedCursor cursor, int size) {
+        return em.createQuery(
+                        "select c from Comment c" +
+                                " where c.guestBook.id = :guestbookId and c.parentComment = null" +
+                                " and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))" +
+                                " order by c.createdAt asc, c.id asc", Comment.class)
+                .setParameter("guestbookId", guestbookId)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    // 한 페이지의 부모 댓글들에 달린 대댓글을 한 번에 조회
+    public List<Comment> findSubCommentsByParentCommentIds(Collection<Long> parentCommentIds){
         return em.createQuery(
                 "select c from Comment c"+
-                        " join fetch c.member m"+
                         " left join fetch c.referenceComment rc "+
-                        " left join fetch m.profileIcon pi"+
-                        " left join fetch m.profileTitle pt"+
-                        " left join fetch pi.defaultImage pii" +
-                        " left join fetch pt.defaultImage pti" +
-                        " where c.parentComment.id = :commentId"+
-                        " order by c.createdAt asc", Comment.class)
-                .setParameter("commentId", commentId)
+                        " where c.parentComment.id in :parentCommentIds"+
+                        " order by c.createdAt asc, c.id asc", Comment.class)
+                .setParameter("parentCommentIds", parentCommentIds)
                 .getResultList();
     }
 
@@ -4,6 +4,7 @@ import com.favoriteplace.app.domain.community.GuestBook;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import com.favoriteplace.global.util.FeedCursor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -20,43 +21,77 @@ public class GuestBookImplRepository {
         return em.createQuery(
             "select g from GuestBook g" +
                     " join fetch g.member m" +
-                    " order by g.createdAt desc", GuestBook.class)
+                    " order by g.createdAt desc, g.id desc", GuestBook.class)
                 .setFirstResult((page -1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<GuestBook> findAllByOrderByCreatedAtDesc(FeedCursor cursor, int size){
+        return em.createQuery(
+                "select g from GuestBook g" +
+                        " join fetch g.member m" +
+                        " where g.createdAt < :createdAt or (g.createdAt = :createdAt and g.id < :id)" +
+                        " order by g.createdAt desc, g.id desc", GuestBook.class)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<GuestBook> findAllByOrderByLikeCountDesc(int page, int size){
         return em.createQuery(
                 "select g from GuestBook g" +
                         " join fetch g.member m" +
-                        " order by g.likeCount desc" , GuestBook.class)
+                        " order by g.likeCount desc, g.id desc" , GuestBook.class)
                 .setFirstResult((page -1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<GuestBook> findAllByOrderByLikeCountDesc(FeedCursor cursor, int size){
+        return em.createQuery(
+                "select g from GuestBook g" +
+                        " join fetch g.member m" +
+                        " where g.likeCount < :likeCount or (g.likeCount = :likeCount and g.id < :id)" +
+                        " order by g.likeCount desc, g.id desc", GuestBook.class)
+                .setParameter("likeCount", cursor.getLikeCount())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<GuestBook> findAllByMemberIdOrderByCreatedAtDesc(Long memberId, int page, int size) {
         return em.createQuery(
                 "select g from GuestBook g" +
                         " join fetch g.member m" +
                         " where g.member.id = :memberId" +
-                        " order by g.createdAt desc", GuestBook.class)
+                        " order by g.createdAt desc, g.id desc", GuestBook.class)
                 .setParameter("memberId", memberId)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<GuestBook> findAllByMemberIdOrderByCreatedAtDesc(Long memberId, FeedCursor cursor, int size) {
+        return em.createQuery(
+                "select g from GuestBook g" +
+                        " join fetch g.member m" +
+                        " where g.member.id = :memberId" +
+                        " and (g.createdAt < :createdAt or (g.createdAt = :createdAt and g.id < :id))" +
+                        " order by g.createdAt desc, g.id desc", GuestBook.class)
+                .setParameter("memberId", memberId)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public GuestBook findOneById(Long guestBookId) {
         return em.createQuery(
                 "select g from GuestBook g"+
                         " join fetch g.member m" +
                         " join fetch g.pilgrimage p" +
-                        " left join fetch m.profileIcon pi" +
-                        " left join fetch m.profileTitle pt" +
-                        " left join fetch pi.defaultImage pii" +
-                        " left join fetch pt.defaultImage pti" +
                         " left join fetch p.address pa" +
                         " left join fetch p.realImage pri" +
                         " left join fetch p.virtualImage pvi" +
@@ -106,10 +141,6 @@ public class GuestBookImplRepository {
         return em.createQuery(
                 "select g from GuestBook g"+
                         " join fetch g.member m" +
-                        " left join fetch m.profileTitle pt" +
-                        " left join fetch m.profileIcon pi" +
-                        " left join fetch pt.defaultImage pti" +
-                        " left join fetch pi.defaultImage pii" +
                         " where g.createdAt between :startDateTime and :now" +
                         " order by g.likeCount desc", GuestBook.class)
                 .setParameter("startDateTime", startDateTime)
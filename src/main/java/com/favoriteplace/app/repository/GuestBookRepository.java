@@ -6,6 +6,7 @@ import com.favoriteplace.app.domain.travel.Pilgrimage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,4 +21,14 @@ public interface GuestBookRepository extends JpaRepository<GuestBook, Long> {
     Long countByMember(Member member);
 
     List<GuestBook> findByMemberAndPilgrimageOrderByCreatedAtDesc(Member member, Pilgrimage pilgrimage);
+
+    @Modifying
+    @Query("update GuestBook g set g.commentCount = g.commentCount + :delta where g.id = :id")
+    void addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // 실제 댓글 수와 다른 글만 다시 계산
+    @Modifying
+    @Query("update GuestBook g set g.commentCount = (select count(c) from Comment c where c.guestBook.id = g.id and c.isDeleted = false)" +
+            " where g.commentCount <> (select count(c) from Comment c where c.guestBook.id = g.id and c.isDeleted = false)")
+    int reconcileCommentCount();
 }
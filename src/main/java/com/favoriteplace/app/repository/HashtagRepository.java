@@ -2,8 +2,11 @@ package com.favoriteplace.app.repository;
 
 import com.favoriteplace.app.domain.community.HashTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +14,13 @@ public interface HashtagRepository extends JpaRepository<HashTag, Long> {
     List<HashTag> findAllByGuestBookId(Long guestBookId);
 
     void deleteByGuestBookId(Long guestbookId);
+
+    @Query("select h.guestBook.id as guestBookId, h.tagName as tagName from HashTag h" +
+            " where h.guestBook.id in :guestBookIds order by h.id")
+    List<TagNameView> findTagNamesByGuestBookIds(@Param("guestBookIds") Collection<Long> guestBookIds);
+
+    interface TagNameView {
+        Long getGuestBookId();
+        String getTagName();
+    }
 }
@@ -3,8 +3,11 @@ package com.favoriteplace.app.repository;
 import com.favoriteplace.app.domain.Image;
 import com.favoriteplace.app.domain.community.GuestBook;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,4 +18,14 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     List<Image> findAllByGuestBookId(Long GuestBookId);
     void deleteByPostId(long postId);
     void deleteByGuestBookId(Long guestbookId);
+
+    // 인증글 목록 썸네일 (인증글별 첫 번째 이미지)
+    @Query("select i.guestBook.id as guestBookId, i.url as url from Image i" +
+            " where i.id in (select min(fi.id) from Image fi where fi.guestBook.id in :guestBookIds group by fi.guestBook.id)")
+    List<ThumbnailView> findThumbnailsByGuestBookIds(@Param("guestBookIds") Collection<Long> guestBookIds);
+
+    interface ThumbnailView {
+        Long getGuestBookId();
+        String getUrl();
+    }
 }
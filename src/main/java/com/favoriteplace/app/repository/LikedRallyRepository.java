@@ -16,12 +16,18 @@ import java.util.List;
 public interface LikedRallyRepository extends JpaRepository<LikedRally, Long> {
     LikedRally findByRallyAndMember(Rally rally, Member member);
     List<LikedRally> findByMember(Member member);
-    @Query("SELECT l.rally " +
+    // 월간 추천 랠리 순위 초기 적재용
+    @Query("SELECT l.rally.id AS rallyId, COUNT(l) AS likeCount " +
             "FROM LikedRally l " +
-            "WHERE l.createdAt >= :startDate " +
-            "GROUP BY l.rally " +
-            "ORDER BY COUNT(l) DESC")
-    List<Rally> findMonthlyTrendingRally(@Param("startDate") LocalDateTime startDate);
+            "WHERE l.createdAt >= :startDate AND l.createdAt < :endDate " +
+            "GROUP BY l.rally.id")
+    List<RallyLikeCountView> findLikeCountsByRally(@Param("startDate") LocalDateTime startDate,
+                                               @Param("endDate") LocalDateTime endDate);
+
+    interface RallyLikeCountView {
+        Long getRallyId();
+        Long getLikeCount();
+    }
 
     @Query("SELECT DISTINCT lr.rally.id "+
             "FROM LikedRally lr " +
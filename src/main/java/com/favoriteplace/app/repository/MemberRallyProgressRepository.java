@@ -0,0 +1,75 @@
+package com.favoriteplace.app.repository;
+
+import com.favoriteplace.app.domain.travel.MemberRallyProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MemberRallyProgressRepository extends JpaRepository<MemberRallyProgress, Long> {
+    @Query("select p.distinctVisitedCount from MemberRallyProgress p where p.member.id = :memberId and p.rally.id = :rallyId")
+    Optional<Long> findVisitedCount(@Param("memberId") Long memberId, @Param("rallyId") Long rallyId);
+
+    @Query("select p.rally.id as rallyId, p.distinctVisitedCount as visitedCount from MemberRallyProgress p " +
+            "where p.member.id = :memberId and p.rally.id in :rallyIds")
+    List<VisitedCountView> findVisitedCounts(@Param("memberId") Long memberId, @Param("rallyIds") Collection<Long> rallyIds);
+
+    // 처음 인증이면 행을 만들고 이미 있으면 +1 (동시에 처음 인증해도 unique key 충돌 없이 한 행에 누적)
+    // completed_at 을 먼저 계산해야 증가 전 값을 기준으로 비교함
+    @Modifying
+    @Query(value = "insert into member_rally_progress" +
+            " (member_id, rally_id, distinct_visited_count, completed_at, created_at, modified_at)" +
+            " values (:memberId, :rallyId, 1, case when :pilgrimageNumber <= 1 then cast(:now as datetime) end, :now, :now)" +
+            " on duplicate key update" +
+            " completed_at = case when completed_at is null and distinct_visited_count + 1 >= :pilgrimageNumber" +
+            " then :now else completed_at end," +
+            " distinct_visited_count = distinct_visited_count + 1," +
+            " modified_at = :now", nativeQuery = true)
+    void upsertVisitedCount(@Param("memberId") Long memberId, @Param("rallyId") Long rallyId,
+                            @Param("pilgrimageNumber") Long pilgrimageNumber, @Param("now") LocalDateTime now);
+
+    // 진행도가 하나라도 있는지 (pk 순으로 한 행만 확인)
+    Optional<MemberRallyProgress> findFirstByOrderByIdAsc();
+
+    // 방문 기록은 있는데 진행도가 없는 (사용자, 랠리) 추가
+    @Modifying
+    @Query(value = "insert into member_rally_progress" +
+            " (member_id, rally_id, distinct_visited_count, completed_at, created_at, modified_at)" +
+            " select vp.member_id, p.rally_id, count(distinct p.pilgrimage_id)," +
+            " case when count(distinct p.pilgrimage_id) >= max(r.pilgrimage_number) then :now end, :now, :now" +
+            " from visited_pilgrimage vp" +
+            " join pilgrimage p on p.pilgrimage_id = vp.pilgrimage_id" +
+            " join rally r on r.rally_id = p.rally_id" +
+            " where not exists (select 1 from member_rally_progress mp" +
+            " where mp.member_id = vp.member_id and mp.rally_id = p.rally_id)" +
+            " group by vp.member_id, p.rally_id", nativeQuery = true)
+    int insertMissingProgress(@Param("now") LocalDateTime now);
+
+    // 실제 방문한 성지순례 수와 다른 진행도만 다시 계산
+    @Modifying
+    @Query(value = "update member_rally_progress mp" +
+            " join (select vp.member_id, p.rally_id, count(distinct p.pilgrimage_id) as visited_count" +
+            " from visited_pilgrimage vp" +
+            " join pilgrimage p on p.pilgrimage_id = vp.pilgrimage_id" +
+            " group by vp.member_id, p.rally_id) v" +
+            " on v.member_id = mp.member_id and v.rally_id = mp.rally_id" +
+            " join rally r on r.rally_id = mp.rally_id" +
+            " set mp.completed_at = case when mp.completed_at is null and v.visited_count >= r.pilgrimage_number" +
+            " then :now else mp.completed_at end," +
+            " mp.distinct_visited_count = v.visited_count," +
+            " mp.modified_at = :now" +
+            " where mp.distinct_visited_count <> v.visited_count", nativeQuery = true)
+    int reconcileVisitedCount(@Param("now") LocalDateTime now);
+
+    interface VisitedCountView {
+        Long getRallyId();
+        Long getVisitedCount();
+    }
+}
@@ -1,13 +1,41 @@
 package com.favoriteplace.app.repository;
 
 import com.favoriteplace.app.domain.Member;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
     boolean existsById(Long id);
-}
 
+    Optional<PrincipalView> findPrincipalByEmail(String email);
+
+    // 작성자 프로필 캐시 적재용 (착용 중인 칭호/아이콘 이미지까지 한 번에)
+    @Query("select m.id as memberId, m.nickname as nickname, m.profileImageUrl as profileImageUrl," +
+            " ti.url as profileTitleUrl, ii.url as profileIconUrl" +
+            " from Member m" +
+            " left join m.profileTitle t left join t.defaultImage ti" +
+            " left join m.profileIcon i left join i.defaultImage ii" +
+            " where m.id in :memberIds")
+    List<ProfileCardView> findProfileCardsByIdIn(@Param("memberIds") Collection<? extends Long> memberIds);
 
+    // 웹소켓 세션 인증용 projection
+    interface PrincipalView {
+        Long getId();
+        String getEmail();
+        String getFcmToken();
+    }
+
+    interface ProfileCardView {
+        Long getMemberId();
+        String getNickname();
+        String getProfileImageUrl();
+        String getProfileTitleUrl();
+        String getProfileIconUrl();
+    }
+}
@@ -4,13 +4,32 @@ import com.favoriteplace.app.domain.travel.Address;
 import com.favoriteplace.app.domain.travel.Pilgrimage;
 import com.favoriteplace.app.domain.travel.Rally;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PilgrimageRepository extends JpaRepository<Pilgrimage, Long> {
     List<Pilgrimage> findByRallyId(Long rallyId);
     List<Pilgrimage> findByRallyAndAddress(Rally rally, Address address);
     List<Pilgrimage> findByAddress(Address address);
+
+    // 카탈로그 스냅샷 적재용
+    @Query("select p from Pilgrimage p join fetch p.address join fetch p.virtualImage join fetch p.realImage")
+    List<Pilgrimage> findAllWithImages();
+
+    @Query("select p.id as id, p.rallyName as rallyName, p.latitude as latitude, p.longitude as longitude, p.certifyRadius as certifyRadius from Pilgrimage p where p.id = :id")
+    Optional<LocationView> findLocationById(@Param("id") Long id);
+
+    // 공간 인덱스에 없는 성지순례 좌표 projection
+    interface LocationView {
+        Long getId();
+        String getRallyName();
+        Double getLatitude();
+        Double getLongitude();
+        Double getCertifyRadius();
+    }
 }
@@ -4,6 +4,7 @@ import com.favoriteplace.app.domain.community.Post;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import com.favoriteplace.global.util.FeedCursor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -20,43 +21,77 @@ public class PostImplRepository {
         return em.createQuery(
                 "select p from Post p" +
                     " join fetch p.member m" +
-                    " order by p.createdAt desc", Post.class)
+                    " order by p.createdAt desc, p.id desc", Post.class)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<Post> findAllByOrderByCreatedAtDesc(FeedCursor cursor, int size){
+        return em.createQuery(
+                "select p from Post p" +
+                        " join fetch p.member m" +
+                        " where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)" +
+                        " order by p.createdAt desc, p.id desc", Post.class)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<Post> findAllByOrderByLikeCountDesc(int page, int size){
         return em.createQuery(
                 "select p from Post p" +
                         " join fetch p.member m" +
-                        " order by p.likeCount desc", Post.class)
+                        " order by p.likeCount desc, p.id desc", Post.class)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<Post> findAllByOrderByLikeCountDesc(FeedCursor cursor, int size){
+        return em.createQuery(
+                "select p from Post p" +
+                        " join fetch p.member m" +
+                        " where p.likeCount < :likeCount or (p.likeCount = :likeCount and p.id < :id)" +
+                        " order by p.likeCount desc, p.id desc", Post.class)
+                .setParameter("likeCount", cursor.getLikeCount())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
     public List<Post> findAllByMemberIdOrderByCreatedAtDesc(Long memberId, int page, int size){
         return em.createQuery(
                 "select p from Post p"+
                         " join fetch p.member m" +
                         " where m.id = :memberId" +
-                        " order by p.createdAt desc", Post.class)
+                        " order by p.createdAt desc, p.id desc", Post.class)
                 .setParameter("memberId", memberId)
                 .setFirstResult((page-1)*size)
                 .setMaxResults(size)
                 .getResultList();
     }
 
+    public List<Post> findAllByMemberIdOrderByCreatedAtDesc(Long memberId, FeedCursor cursor, int size){
+        return em.createQuery(
+                "select p from Post p"+
+                        " join fetch p.member m" +
+                        " where m.id = :memberId" +
+                        " and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))" +
+                        " order by p.createdAt desc, p.id desc", Post.class)
+                .setParameter("memberId", memberId)
+                .setParameter("createdAt", cursor.getCreatedAt())
+                .setParameter("id", cursor.getId())
+                .setMaxResults(size)
+                .getResultList();
+    }
+
 
     public Post findOneById(Long postId) {
         return em.createQuery(
                 "select p from Post p" +
                         " join fetch p.member m" +
-                        " left join fetch m.profileIcon pi" +
-                        " left join fetch m.profileTitle pt" +
-                        " left join fetch pi.defaultImage pii" +
-                        " left join fetch pt.defaultImage pti" +
                         " where p.id = :postId", Post.class)
                 .setParameter("postId", postId)
                 .getSingleResult();
@@ -102,10 +137,6 @@ public class PostImplRepository {
         return em.createQuery(
                 "select p from Post p"+
                         " join fetch p.member m"+
-                        " left join fetch m.profileIcon pi"+
-                        " left join fetch m.profileTitle pt" +
-                        " left join fetch pi.defaultImage pii" +
-                        " left join fetch pt.defaultImage pti" +
                         " where p.createdAt between :startDateTime and :now" +
                         " order by p.likeCount desc", Post.class)
                 .setParameter("startDateTime", startDateTime)
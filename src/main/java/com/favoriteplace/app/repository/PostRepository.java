@@ -3,9 +3,22 @@ package com.favoriteplace.app.repository;
 import com.favoriteplace.app.domain.Member;
 import com.favoriteplace.app.domain.community.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     Long countByMember(Member member);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    void addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // 실제 댓글 수와 다른 글만 다시 계산
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post.id = p.id and c.isDeleted = false)" +
+            " where p.commentCount <> (select count(c) from Comment c where c.post.id = p.id and c.isDeleted = false)")
+    int reconcileCommentCount();
 }
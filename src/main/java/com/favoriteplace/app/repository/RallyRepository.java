@@ -3,7 +3,9 @@ package com.favoriteplace.app.repository;
 import com.favoriteplace.app.domain.travel.Pilgrimage;
 import com.favoriteplace.app.domain.travel.Rally;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +15,14 @@ public interface RallyRepository extends JpaRepository<Rally, Long> {
     @Query("SELECT r FROM Rally r ORDER BY r.createdAt")
     List<Rally> findAllOrderByCreatedAt();
 
+    // 랠리 완료 처리 시 달성자 수를 랠리별로 모아서 증가
+    @Modifying
+    @Query("update Rally r set r.achieveNumber = r.achieveNumber + :count where r.id = :id")
+    int increaseAchieveNumber(@Param("id") Long id, @Param("count") Long count);
+
+    @Query("select r from Rally r join fetch r.image order by r.createdAt")
+    List<Rally> findAllWithImage();
+
     @Query("select r from Rally r where :pilgrimage MEMBER of r.pilgrimages")
     Rally findByPilgrimage(Pilgrimage pilgrimage);
 
@@ -10,7 +10,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VisitedPilgrimageRepository extends JpaRepository<VisitedPilgrimage, Long> {
@@ -24,15 +26,6 @@ public interface VisitedPilgrimageRepository extends JpaRepository<VisitedPilgri
     """)
     List<VisitedPilgrimage> findByMemberIdOrderByModifiedAtDesc(@Param("memberId")Long memberId);
 
-    @Query("""
-    select count(distinct p.id)
-    from Rally r
-    join Pilgrimage p on r.id = p.rally.id
-    join VisitedPilgrimage vp on p.id = vp.pilgrimage.id
-    and vp.member.id = :memberId and r.id = :rallyId
-    """)
-    Long findByDistinctCount(@Param("memberId") Long memberId, @Param("rallyId") Long rallyId);
-
     @Query("""
     select distinct r
     from Rally r
@@ -51,7 +44,35 @@ public interface VisitedPilgrimageRepository extends JpaRepository<VisitedPilgri
     """)
     Long findByVisitedCount(@Param("memberId")Long memberId);
 
+    @Query("select distinct vp.pilgrimage.id from VisitedPilgrimage vp where vp.member.id = :memberId and vp.pilgrimage.rally.id = :rallyId")
+    List<Long> findVisitedPilgrimageIds(@Param("memberId") Long memberId, @Param("rallyId") Long rallyId);
+
     List<VisitedPilgrimage> findByPilgrimageAndMemberOrderByCreatedAtDesc(Pilgrimage pilgrimage, Member member);
 
     Long countByMemberIdAndPilgrimageIdIn(Long memberId, List<Long> pilgrimageIds);
+
+    long countByMemberIdAndPilgrimageId(Long memberId, Long pilgrimageId);
+
+    @Query("select max(vp.createdAt) from VisitedPilgrimage vp where vp.member.id = :memberId and vp.pilgrimage.id = :pilgrimageId")
+    Optional<LocalDateTime> findLastVisitedAt(@Param("memberId") Long memberId, @Param("pilgrimageId") Long pilgrimageId);
+
+    @Query("""
+    select
+    (select max(vp.createdAt) from VisitedPilgrimage vp
+        where vp.member.id = :memberId and vp.pilgrimage.id = :pilgrimageId) as lastVisitedAt,
+    (select max(g.createdAt) from GuestBook g
+        where g.member.id = :memberId and g.pilgrimage.id = :pilgrimageId) as lastGuestBookAt,
+    (select count(g) from GuestBook g
+        where g.member.id = :memberId and g.pilgrimage.id = :pilgrimageId) as guestBookCount
+    from Pilgrimage p
+    where p.id = :pilgrimageId
+    """)
+    Optional<EligibilityView> findEligibility(@Param("memberId") Long memberId, @Param("pilgrimageId") Long pilgrimageId);
+
+    // 버튼 상태 계산용 인증/방명록 요약 projection
+    interface EligibilityView {
+        LocalDateTime getLastVisitedAt();
+        LocalDateTime getLastGuestBookAt();
+        Long getGuestBookCount();
+    }
 }
@@ -0,0 +1,159 @@
+package com.favoriteplace.app.service;
+
+import com.favoriteplace.app.converter.PointHistoryConverter;
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.enums.CertificationEventType;
+import com.favoriteplace.app.domain.enums.PointType;
+import com.favoriteplace.app.domain.enums.RallyVersion;
+import com.favoriteplace.app.domain.item.AcquiredItem;
+import com.favoriteplace.app.domain.item.PointHistory;
+import com.favoriteplace.app.domain.travel.CertificationOutbox;
+import com.favoriteplace.app.domain.travel.CompleteRally;
+import com.favoriteplace.app.domain.travel.Rally;
+import com.favoriteplace.app.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 성지순례 인증 후속 처리 (포인트, 칭호, 완료 랠리, 랠리 달성자 수)
+ * 대기열에 쌓인 이벤트를 모아서 한 트랜잭션에 처리
+ * - 사용자는 한 번만 조회해서 포인트를 합산
+ * - 랠리 달성자 수는 랠리별로 합산해 한 번만 증가
+ * - 배치가 실패하면 이벤트마다 따로 처리하고, 실패한 이벤트는 시도 횟수를 남겨 최대 횟수 후 dead letter 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CertificationOutboxProcessor {
+    private static final Long VISIT_POINT = 15L;
+    private static final Long RALLY_COMPLETE_POINT = 100L;
+
+    private final CertificationOutboxRepository certificationOutboxRepository;
+    private final MemberRepository memberRepository;
+    private final RallyRepository rallyRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final CompleteRallyRepository completeRallyRepository;
+    private final AcquiredItemRepository acquiredItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${certification.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${certification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 성지순례 인증과 같은 트랜잭션에서 호출
+     */
+    @Transactional
+    public void enqueueVisit(Long memberId, Long rallyId, Long pilgrimageId) {
+        certificationOutboxRepository.save(toOutbox(CertificationEventType.VISIT_POINT, memberId, rallyId, pilgrimageId, VISIT_POINT));
+    }
+
+    @Transactional
+    public void enqueueRallyComplete(Long memberId, Long rallyId, Long pilgrimageId) {
+        certificationOutboxRepository.save(toOutbox(CertificationEventType.RALLY_COMPLETE, memberId, rallyId, pilgrimageId, RALLY_COMPLETE_POINT));
+    }
+
+    @Scheduled(fixedDelayString = "${certification.outbox.poll-interval-ms:500}")
+    public void process() {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    apply(certificationOutboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize))));
+        } catch (RuntimeException e) {
+            // 한 이벤트 때문에 배치 전체가 계속 롤백되지 않도록 하나씩 처리
+            log.warn("certification outbox batch failed, retrying one by one: " + e.getMessage());
+            processOneByOne();
+        }
+    }
+
+    private void processOneByOne() {
+        List<Long> ids = transactionTemplate.execute(status ->
+                certificationOutboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize)).stream()
+                        .map(CertificationOutbox::getId)
+                        .toList());
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        certificationOutboxRepository.findPendingForUpdateById(id).ifPresent(event -> apply(List.of(event))));
+            } catch (RuntimeException e) {
+                transactionTemplate.executeWithoutResult(status -> fail(id, e));
+            }
+        }
+    }
+
+    private void fail(Long id, RuntimeException e) {
+        certificationOutboxRepository.findPendingForUpdateById(id).ifPresent(event -> {
+            if (event.fail(e.getClass().getSimpleName() + ": " + e.getMessage(), maxAttempts))
+                log.error("certification outbox dead lettered: id=" + id + ", type=" + event.getType()
+                        + ", memberId=" + event.getMemberId() + ", rallyId=" + event.getRallyId(), e);
+        });
+    }
+
+    private void apply(List<CertificationOutbox> events) {
+        if (events.isEmpty())
+            return;
+
+        Map<Long, Member> members = memberRepository.findAllById(
+                        events.stream().map(CertificationOutbox::getMemberId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        List<PointHistory> pointHistories = new ArrayList<>();
+        Map<Long, Long> achieveCounts = new HashMap<>();
+
+        for (CertificationOutbox event : events) {
+            Member member = members.get(event.getMemberId());
+            if (member == null) {
+                // 탈퇴한 사용자
+                continue;
+            }
+            if (event.getType() == CertificationEventType.RALLY_COMPLETE
+                    && !completeRally(member, event.getRallyId(), achieveCounts)) {
+                continue;
+            }
+            // toPointHistory 에서 사용자 포인트도 함께 증가
+            pointHistories.add(PointHistoryConverter.toPointHistory(member, event.getPoint(), PointType.ACQUIRE));
+        }
+        pointHistoryRepository.saveAll(pointHistories);
+        achieveCounts.forEach(rallyRepository::increaseAchieveNumber);
+        certificationOutboxRepository.deleteAllInBatch(events);
+        log.info("certification outbox processed: events=" + events.size() + ", completedRallies=" + achieveCounts.size());
+    }
+
+    // 이미 완료한 랠리라면 (중복 이벤트) 아무것도 하지 않음
+    private boolean completeRally(Member member, Long rallyId, Map<Long, Long> achieveCounts) {
+        Rally rally = rallyRepository.getReferenceById(rallyId);
+        if (!completeRallyRepository.findByMemberAndRally(member, rally).isEmpty())
+            return false;
+
+        completeRallyRepository.save(CompleteRally.builder().rally(rally).member(member).version(RallyVersion.v1).build());
+        // 최초 완료에 한해 칭호 획득
+        if (acquiredItemRepository.findByMemberAndItem(member, rally.getItem()).isEmpty())
+            acquiredItemRepository.save(AcquiredItem.builder().item(rally.getItem()).member(member).build());
+        achieveCounts.merge(rallyId, 1L, Long::sum);
+        return true;
+    }
+
+    private CertificationOutbox toOutbox(CertificationEventType type, Long memberId, Long rallyId, Long pilgrimageId, Long point) {
+        return CertificationOutbox.builder()
+                .type(type)
+                .memberId(memberId)
+                .rallyId(rallyId)
+                .pilgrimageId(pilgrimageId)
+                .point(point)
+                .build();
+    }
+}
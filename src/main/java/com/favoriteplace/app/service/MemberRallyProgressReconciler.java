@@ -0,0 +1,41 @@
+package com.favoriteplace.app.service;
+
+import com.favoriteplace.app.repository.MemberRallyProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 랠리 진행도를 실제 방문 기록과 맞춤
+ * 진행도가 없는 (사용자, 랠리)는 추가하고, 방문 기록 삭제 등으로 달라진 진행도는 다시 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberRallyProgressReconciler {
+    private final MemberRallyProgressRepository memberRallyProgressRepository;
+
+    // 테이블이 비어 있을 때만 (최초 배포) 서버 시작 시 채움
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillIfEmpty() {
+        if (memberRallyProgressRepository.findFirstByOrderByIdAsc().isEmpty())
+            reconcile();
+    }
+
+    @Scheduled(cron = "${rally.progress.reconcile-cron:0 40 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = memberRallyProgressRepository.insertMissingProgress(now);
+        int updated = memberRallyProgressRepository.reconcileVisitedCount(now);
+        if (inserted + updated > 0)
+            log.info("member rally progress reconciled: inserted=" + inserted + ", updated=" + updated);
+    }
+}
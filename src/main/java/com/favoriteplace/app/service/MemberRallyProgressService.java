@@ -0,0 +1,57 @@
+package com.favoriteplace.app.service;
+
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.travel.Rally;
+import com.favoriteplace.app.repository.MemberRallyProgressRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberRallyProgressService {
+    private final MemberRallyProgressRepository memberRallyProgressRepository;
+
+    /**
+     * 사용자가 방문한 랠리의 서로 다른 성지순례 수
+     * @param memberId 사용자 ID
+     * @param rallyId 랠리 ID
+     * @return 방문 기록이 없으면 0
+     */
+    public Long getVisitedCount(Long memberId, Long rallyId) {
+        return memberRallyProgressRepository.findVisitedCount(memberId, rallyId).orElse(0L);
+    }
+
+    /**
+     * 여러 랠리의 방문한 성지순례 수를 한 번에 조회 (목록 화면용)
+     * @param memberId 사용자 ID
+     * @param rallyIds 랠리 ID 목록
+     * @return 랠리 ID -> 방문한 성지순례 수, 방문 기록이 없는 랠리는 포함하지 않음
+     */
+    public Map<Long, Long> getVisitedCounts(Long memberId, Collection<Long> rallyIds) {
+        if (memberId == null || rallyIds.isEmpty())
+            return Collections.emptyMap();
+        return memberRallyProgressRepository.findVisitedCounts(memberId, rallyIds).stream()
+                .collect(Collectors.toMap(
+                        MemberRallyProgressRepository.VisitedCountView::getRallyId,
+                        MemberRallyProgressRepository.VisitedCountView::getVisitedCount));
+    }
+
+    /**
+     * 처음 방문한 성지순례를 인증했을 때 랠리 진행도 증가
+     * @return 증가한 뒤의 방문한 성지순례 수
+     */
+    @Transactional
+    public Long increaseVisitedCount(Member member, Rally rally) {
+        memberRallyProgressRepository.upsertVisitedCount(member.getId(), rally.getId(),
+                rally.getPilgrimageNumber(), LocalDateTime.now());
+        return getVisitedCount(member.getId(), rally.getId());
+    }
+}
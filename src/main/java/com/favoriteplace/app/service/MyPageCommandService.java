@@ -15,7 +15,9 @@ import com.favoriteplace.app.repository.MemberRepository;
 import com.favoriteplace.app.service.fcm.FCMNotificationService;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
+import com.favoriteplace.global.profile.MemberProfileChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class MyPageCommandService {
     private final ItemRepository itemRepository;
     private final AcquiredItemRepository acquiredItemRepository;
     private final FCMNotificationService fcmNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 다른 유저를 차단 또는 차단 해제
@@ -71,6 +74,8 @@ public class MyPageCommandService {
             member.updateTitle(item);
         }
         memberRepository.save(member);
+        // 작성자 프로필 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
         return CommonConverter.toPostResponseDto(true, "착용이 완료되었습니다.");
     }
 
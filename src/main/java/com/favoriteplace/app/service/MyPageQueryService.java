@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +31,7 @@ public class MyPageQueryService {
     private final GuestBookRepository guestBookRepository;
     private final PostRepository postRepository;
     private final LikedRallyRepository likedRallyRepository;
+    private final MemberRallyProgressService memberRallyProgressService;
 
     public MyPageDto.MyInfoDto getMyInfo(Member member) {
         Long completeRalliesCount = Long.valueOf(completeRallyRepository.findByMember(member).size());
@@ -84,29 +86,30 @@ public class MyPageQueryService {
     }
 
     public List<MyPageDto.MyGuestBookDto> getMyLikedBook(Member member) {
-        List<LikedRally> rallyList = likedRallyRepository.findByMember(member);
-        return rallyList.stream().map(dummy -> {
-            Long visited = visitedPilgrimageRepository
-                    .findByDistinctCount(member.getId(), dummy.getRally().getId());
-            return MyPageConverter.toMyGuestBookDto(dummy.getRally(), visited);
-        }).collect(Collectors.toList());
+        List<Rally> rallyList = likedRallyRepository.findByMember(member).stream()
+                .map(LikedRally::getRally)
+                .collect(Collectors.toList());
+        return toMyGuestBookDtos(member, rallyList);
     }
 
     public List<MyPageDto.MyGuestBookDto> getMyVisitedBook(Member member) {
         List<Rally> rallyList = visitedPilgrimageRepository.findByDistinctPilgrimage(member.getId());
-        return rallyList.stream().map(rally -> {
-            Long visited = visitedPilgrimageRepository
-                    .findByDistinctCount(member.getId(), rally.getId());
-            return MyPageConverter.toMyGuestBookDto(rally, visited);
-        }).collect(Collectors.toList());
+        return toMyGuestBookDtos(member, rallyList);
     }
 
     public List<MyPageDto.MyGuestBookDto> getMyDoneBook(Member member) {
-        List<CompleteRally> rallyList = completeRallyRepository.findByMember(member);
-        return rallyList.stream().map(dummy -> {
-            Long visited = visitedPilgrimageRepository
-                    .findByDistinctCount(member.getId(), dummy.getRally().getId());
-            return MyPageConverter.toMyGuestBookDto(dummy.getRally(), visited);
-        }).collect(Collectors.toList());
+        List<Rally> rallyList = completeRallyRepository.findByMember(member).stream()
+                .map(CompleteRally::getRally)
+                .collect(Collectors.toList());
+        return toMyGuestBookDtos(member, rallyList);
+    }
+
+    // 랠리별 방문 수는 한 번에 조회
+    private List<MyPageDto.MyGuestBookDto> toMyGuestBookDtos(Member member, List<Rally> rallyList) {
+        List<Long> rallyIds = rallyList.stream().map(Rally::getId).collect(Collectors.toList());
+        Map<Long, Long> visitedCounts = memberRallyProgressService.getVisitedCounts(member.getId(), rallyIds);
+        return rallyList.stream()
+                .map(rally -> MyPageConverter.toMyGuestBookDto(rally, visitedCounts.getOrDefault(rally.getId(), 0L)))
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
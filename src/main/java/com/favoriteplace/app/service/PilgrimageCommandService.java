@@ -1,12 +1,8 @@
 package com.favoriteplace.app.service;
 
 import com.favoriteplace.app.converter.CommonConverter;
-import com.favoriteplace.app.converter.PointHistoryConverter;
+import com.favoriteplace.app.converter.PilgrimageConverter;
 import com.favoriteplace.app.domain.Member;
-import com.favoriteplace.app.domain.community.GuestBook;
-import com.favoriteplace.app.domain.enums.PointType;
-import com.favoriteplace.app.domain.enums.RallyVersion;
-import com.favoriteplace.app.domain.item.AcquiredItem;
 import com.favoriteplace.app.domain.travel.*;
 import com.favoriteplace.app.dto.CommonResponseDto;
 import com.favoriteplace.app.dto.travel.PilgrimageDto;
@@ -15,18 +11,25 @@ import com.favoriteplace.app.repository.*;
 import com.favoriteplace.app.service.fcm.FCMNotificationService;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
+import com.favoriteplace.global.geo.PilgrimageSpatialIndex;
+import com.favoriteplace.global.trending.RallyLikeChangedEvent;
+import com.favoriteplace.global.websocket.ButtonStateStore;
+import com.favoriteplace.global.websocket.EligibilityChangedEvent;
+import com.favoriteplace.global.websocket.EligibilitySnapshotCache;
 import com.favoriteplace.global.websocket.RedisService;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 import static com.favoriteplace.app.service.fcm.FCMNotificationService.makeAnimationTopicName;
 
@@ -35,19 +38,19 @@ import static com.favoriteplace.app.service.fcm.FCMNotificationService.makeAnima
 @Transactional
 @RequiredArgsConstructor
 public class PilgrimageCommandService {
-    private final GuestBookRepository guestBookRepository;
-    private static final Double MAX_DISTANCE_WITHIN_100M = 0.00135;
     private final RallyRepository rallyRepository;
+    private final MemberRepository memberRepository;
     private final PilgrimageRepository pilgrimageRepository;
     private final LikedRallyRepository likedRallyRepository;
     private final VisitedPilgrimageRepository visitedPilgrimageRepository;
-    private final PointHistoryRepository pointHistoryRepository;
-    private final CompleteRallyRepository completeRallyRepository;
-    private final AcquiredItemRepository acquiredItemRepository;
     private final FCMNotificationService fcmNotificationService;
-    private final EntityManager em;
     private final RedisService redisService;
-    private Map<Long, Map<Long, PilgrimageSocketDto.ButtonState>> lastButtonStateCache = new ConcurrentHashMap<>();
+    private final PilgrimageSpatialIndex pilgrimageSpatialIndex;
+    private final ButtonStateStore buttonStateStore;
+    private final EligibilitySnapshotCache eligibilitySnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberRallyProgressService memberRallyProgressService;
+    private final CertificationOutboxProcessor certificationOutboxProcessor;
 
     /***
      * 랠리 찜하기
@@ -63,9 +66,11 @@ public class PilgrimageCommandService {
         if (likedRally == null) {
             LikedRally newLikedRally = LikedRally.builder().rally(rally).member(member).build();
             likedRallyRepository.save(newLikedRally);
+            eventPublisher.publishEvent(new RallyLikeChangedEvent(rally.getId(), newLikedRally.getCreatedAt(), true));
             return CommonConverter.toPostResponseDto(true, "찜 목록에 추가됐습니다.");
         } else {
             likedRallyRepository.delete(likedRally);
+            eventPublisher.publishEvent(new RallyLikeChangedEvent(rally.getId(), likedRally.getCreatedAt(), false));
             return CommonConverter.toPostResponseDto(false, "찜을 취소했습니다.");
         }
     }
@@ -73,71 +78,82 @@ public class PilgrimageCommandService {
     /***
      * 성지순례 방문 인증하기
      * @param pilgrimageId 성지순례 아이디
-     * @param member 인증한 사용자
+     * @param memberId 인증한 사용자 ID
      * @return
      */
-    public CommonResponseDto.RallyResponseDto certifyToPilgrimage(Long pilgrimageId, Member member) {
-        Pilgrimage pilgrimage = pilgrimageRepository.findById(pilgrimageId).orElseThrow(
-                () -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
-
-        List<VisitedPilgrimage> visitedPilgrimages = visitedPilgrimageRepository
-                .findByPilgrimageAndMemberOrderByCreatedAtDesc(pilgrimage, member);
+    public CommonResponseDto.RallyResponseDto certifyToPilgrimage(Long pilgrimageId, Long memberId) {
+        // (사용자, 성지순례, 24시간) 토큰을 먼저 선점해 동시/중복 인증 요청은 DB 조회 없이 거절
+        if (!redisService.acquireCertifyToken(memberId, pilgrimageId))
+            throw new RestApiException(ErrorCode.PILGRIMAGE_ALREADY_CERTIFIED);
 
-        ZoneId serverZoneId = ZoneId.of("Asia/Seoul");
-        ZonedDateTime nowInServerTimeZone = ZonedDateTime.now(serverZoneId);
+        // 토큰이 없더라도 (방명록 작성, 토큰 만료 등) 마지막 방문이 24시간 이내라면 중복 인증
+        // 이 경우 토큰은 반납하지 않고 남은 시간만큼만 유지
+        Optional<LocalDateTime> lastVisitedAt = findLastVisitedAt(memberId, pilgrimageId);
+        if (isCertifiedWithinWindow(memberId, pilgrimageId, lastVisitedAt))
+            throw new RestApiException(ErrorCode.PILGRIMAGE_ALREADY_CERTIFIED);
+        releaseCertifyTokenOnRollback(memberId, pilgrimageId);
 
-        if (visitedPilgrimages.isEmpty()
-                || (!visitedPilgrimages.isEmpty()
-                && visitedPilgrimages.get(0).getPilgrimage().getCreatedAt().atZone(serverZoneId).plusHours(24L).isBefore(nowInServerTimeZone))) {
+        // 웹소켓 세션에는 사용자 ID만 있으므로 트랜잭션 안에서 조회
+        Member member = memberRepository.findById(memberId).orElseThrow(
+                () -> new RestApiException(ErrorCode.USER_NOT_FOUND));
+        Pilgrimage pilgrimage = pilgrimageRepository.findById(pilgrimageId).orElseThrow(
+                () -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
 
-            // 성공 시 포인트 지급 -> 15p & visitedPilgrimage 추가
-            successVisitedAndPointProcess(member, pilgrimage);
+        // 방문 기록만 저장하고 포인트, 칭호, 랠리 달성자 수는 대기열에 쌓아 비동기로 처리
+        successVisitedProcess(member, pilgrimage);
+        certificationOutboxProcessor.enqueueVisit(memberId, pilgrimage.getRally().getId(), pilgrimageId);
+        eventPublisher.publishEvent(new EligibilityChangedEvent(member.getId(), pilgrimage.getId()));
 
-            Long completeCount = visitedPilgrimageRepository.findByDistinctCount(member.getId(), pilgrimage.getRally().getId());
-            log.info("completeCount="+completeCount);
+        // 처음 방문한 성지순례일 때만 랠리 진행도가 바뀜
+        if (lastVisitedAt.isPresent())
+            return CommonConverter.toRallyResponseDto(true, false,"성지순례 인증하기 15P를 얻으셨습니다!");
+        Long completeCount = memberRallyProgressService.increaseVisitedCount(member, pilgrimage.getRally());
 
-            // 랠리를 완료했는지 확인
-            if (checkCompleteRally(member, pilgrimage, completeCount))
-                return CommonConverter.toRallyResponseDto(true, true,"<"+pilgrimage.getRally().getItem().getName()+"> 칭호를 얻었습니다!");
-        } else
-            throw new RestApiException(ErrorCode.PILGRIMAGE_ALREADY_CERTIFIED);
+        // 이번 방문으로 랠리를 완료했는지 확인
+        if (completeCount.equals(pilgrimage.getRally().getPilgrimageNumber())) {
+            certificationOutboxProcessor.enqueueRallyComplete(memberId, pilgrimage.getRally().getId(), pilgrimageId);
+            return CommonConverter.toRallyResponseDto(true, true,"<"+pilgrimage.getRally().getItem().getName()+"> 칭호를 얻었습니다!");
+        }
         return CommonConverter.toRallyResponseDto(true, false,"성지순례 인증하기 15P를 얻으셨습니다!");
     }
 
-    private boolean checkCompleteRally(Member member, Pilgrimage pilgrimage, Long completeCount) {
-        if (completeCount == pilgrimage.getRally().getPilgrimageNumber()) {
-            List<CompleteRally> completeRally = completeRallyRepository.findByMemberAndRally(member, pilgrimage.getRally());
-            log.info("size="+completeRally.size());
-            // 이전에 이미 랠리를 완료한 상태인지 확인
-            if (completeRally.isEmpty()) {
-                // 최초 완료에 한해 칭호 획득
-                if (completeRally == null)
-                    acquiredItemRepository.save(AcquiredItem.builder().item(pilgrimage.getRally().getItem()).member(member).build());
-                // 포인트 획득
-                pointHistoryRepository.save(PointHistoryConverter.toPointHistory(member, 100L, PointType.ACQUIRE));
-                // 완료 랠리 추가
-                completeRallyRepository.save(CompleteRally.builder().rally(pilgrimage.getRally()).member(member).version(RallyVersion.v1).build());
-                // 랠리 완료자 목록에 추가
-                pilgrimage.getRally().addAchieveNumber();
-                rallyRepository.save(pilgrimage.getRally());
-                return true;
-            }
+    private Optional<LocalDateTime> findLastVisitedAt(Long memberId, Long pilgrimageId) {
+        try {
+            return visitedPilgrimageRepository.findLastVisitedAt(memberId, pilgrimageId);
+        } catch (RuntimeException e) {
+            redisService.releaseCertifyToken(memberId, pilgrimageId);
+            throw e;
         }
-        return false;
     }
 
-    private boolean checkCoordinate(PilgrimageDto.PilgrimageCertifyRequestDto form, Pilgrimage pilgrimage) {
-        return pilgrimage.getLatitude() + MAX_DISTANCE_WITHIN_100M >= form.getLatitude() && pilgrimage.getLatitude() - MAX_DISTANCE_WITHIN_100M <= form.getLatitude()
-                && pilgrimage.getLongitude() + MAX_DISTANCE_WITHIN_100M >= form.getLongitude() && pilgrimage.getLongitude() - MAX_DISTANCE_WITHIN_100M <= form.getLongitude();
+    private boolean isCertifiedWithinWindow(Long memberId, Long pilgrimageId, Optional<LocalDateTime> lastVisitedAt) {
+        if (lastVisitedAt.isEmpty())
+            return false;
+
+        ZoneId serverZoneId = ZoneId.of("Asia/Seoul");
+        ZonedDateTime nowInServerTimeZone = ZonedDateTime.now(serverZoneId);
+        ZonedDateTime windowEnd = lastVisitedAt.get().atZone(serverZoneId).plus(RedisService.CERTIFY_WINDOW);
+        if (!windowEnd.isAfter(nowInServerTimeZone))
+            return false;
+        redisService.expireCertifyToken(memberId, pilgrimageId, Duration.between(nowInServerTimeZone, windowEnd));
+        return true;
     }
 
-    private void successVisitedAndPointProcess(Member member, Pilgrimage pilgrimage) {
-        VisitedPilgrimage newVisited = VisitedPilgrimage.builder().pilgrimage(pilgrimage).member(member).build();
-        log.info("visited="+newVisited.getId());
-        visitedPilgrimageRepository.save(newVisited);
-        pointHistoryRepository.save(PointHistoryConverter.toPointHistory(member, 15L, PointType.ACQUIRE));
-        member.updatePoint(15L);
-        log.info("clear");
+    // 인증 트랜잭션이 롤백되면 선점한 토큰을 반납해 다시 인증할 수 있게 함
+    private void releaseCertifyTokenOnRollback(Long memberId, Long pilgrimageId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED)
+                    redisService.releaseCertifyToken(memberId, pilgrimageId);
+            }
+        });
+    }
+
+    private void successVisitedProcess(Member member, Pilgrimage pilgrimage) {
+        visitedPilgrimageRepository.save(VisitedPilgrimage.builder().pilgrimage(pilgrimage).member(member).build());
     }
 
     /**
@@ -160,95 +176,80 @@ public class PilgrimageCommandService {
         fcmNotificationService.unsubscribeTopic(makeAnimationTopicName(rallyId), member.getFcmToken());
     }
 
-    public boolean isUserAtPilgrimage(Pilgrimage pilgrimage, Double latitude, Double longitude) {
-        return (pilgrimage.getLatitude() + MAX_DISTANCE_WITHIN_100M >= latitude && pilgrimage.getLatitude() - MAX_DISTANCE_WITHIN_100M <= latitude) &&
-                (pilgrimage.getLongitude() + MAX_DISTANCE_WITHIN_100M >= longitude && pilgrimage.getLongitude() - MAX_DISTANCE_WITHIN_100M <= longitude);
+    public boolean isUserAtPilgrimage(PilgrimageSpatialIndex.Point pilgrimage, double latitude, double longitude) {
+        return pilgrimage.contains(latitude, longitude);
     }
 
     /**
      * WebSocket location 이벤트
      * @param pilgrimageId
      * @param userLocation
-     * @param member
+     * @param memberId
      * @return
      */
-    public PilgrimageSocketDto.ButtonState buttonStatusUpdate(Long pilgrimageId, PilgrimageDto.PilgrimageCertifyRequestDto userLocation, Member member) {
-        Pilgrimage pilgrimage = pilgrimageRepository.findById(pilgrimageId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
+    public PilgrimageSocketDto.ButtonState buttonStatusUpdate(Long pilgrimageId, PilgrimageDto.PilgrimageCertifyRequestDto userLocation, Long memberId) {
+        // 성지순례 좌표는 DB 대신 공간 인덱스에서 조회
+        PilgrimageSpatialIndex.Point pilgrimage = pilgrimageSpatialIndex.find(pilgrimageId);
+        if (pilgrimage == null)
+            throw new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND);
 
         // 위치 정보 바탕으로 인증 가능 여부 Redis 저장
-        isLocationVerified(member, pilgrimage, userLocation.getLatitude(), userLocation.getLongitude());
-
-        // 이전 버튼 상태와 비교해서 달라졌다면 전송, 아니면 null
-        synchronized (this) {
-            lastButtonStateCache.putIfAbsent(member.getId(), new ConcurrentHashMap<>());
-            Map<Long, PilgrimageSocketDto.ButtonState> pilgrimageStateMap = lastButtonStateCache.get(member.getId());
-
-            if (pilgrimageStateMap == null) {
-                pilgrimageStateMap = new ConcurrentHashMap<>();
-                lastButtonStateCache.put(member.getId(), pilgrimageStateMap);
-            }
-
-            PilgrimageSocketDto.ButtonState lastState = pilgrimageStateMap.get(pilgrimageId);
-
-            // 버튼 상태 업데이트
-            PilgrimageSocketDto.ButtonState buttonState = determineButtonState(member, pilgrimageId);
+        isLocationVerified(memberId, pilgrimage, userLocation.getLatitude(), userLocation.getLongitude());
 
-            if (!buttonState.equals(lastState)) {
-                pilgrimageStateMap.put(pilgrimageId, buttonState);
-                return buttonState;
-            }
-        }
-        return null;
+        // 버튼 상태 갱신 후 이전 상태와 비교해서 달라졌다면 전송, 아니면 null
+        PilgrimageSocketDto.ButtonState buttonState = determineButtonState(memberId, pilgrimageId);
+        PilgrimageSocketDto.ButtonState lastState = buttonStateStore.swap(memberId, pilgrimageId, buttonState);
+        return buttonState.equals(lastState) ? null : buttonState;
     }
 
     /**
-     * 사용자가 성지순례 위치 100M 이내에 존재하는지 확인, 맞다면 redis 저장
+     * 사용자가 성지순례 인증 반경(기본 100M) 이내에 존재하는지 확인, 맞다면 redis 저장
      * @param pilgrimage 성지순례
      * @param latitude 사용자의 위도
      * @param longitude 사용자의 경도
      */
-    public void isLocationVerified(Member member, Pilgrimage pilgrimage, Double latitude, Double longitude) {
+    public void isLocationVerified(Long memberId, PilgrimageSpatialIndex.Point pilgrimage, Double latitude, Double longitude) {
+        if (latitude == null || longitude == null)
+            return;
         if (isUserAtPilgrimage(pilgrimage, latitude, longitude)) {
-            redisService.saveCertificationTime(member.getId(), pilgrimage.getId());
+            redisService.saveCertificationTime(memberId, pilgrimage.getId());
         }
     }
 
     /**
      * 웹소켓 버튼 상태 지정
-     * @param member 사용자
+     * @param memberId 사용자 ID
      * @param pilgrimageId 성지순례 ID
      * @return
      */
-    public PilgrimageSocketDto.ButtonState determineButtonState(Member member, Long pilgrimageId) {
+    public PilgrimageSocketDto.ButtonState determineButtonState(Long memberId, Long pilgrimageId) {
         PilgrimageSocketDto.ButtonState newState = new PilgrimageSocketDto.ButtonState();
         newState.setCertifyButtonEnabled(false);
         newState.setGuestbookButtonEnabled(false);
         newState.setMultiGuestbookButtonEnabled(false);
 
-        // 캐시에 저장된 버튼이 없다면 새로 상태 저장
-        Pilgrimage pilgrimage = pilgrimageRepository.findById(pilgrimageId)
-                .orElseThrow(()->new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
+        // 인증/방명록 기록 요약 (세션 동안 캐시, 인증/방명록 작성 커밋 시 무효화)
+        PilgrimageSocketDto.EligibilitySnapshot snapshot = eligibilitySnapshotCache.get(memberId, pilgrimageId,
+                () -> visitedPilgrimageRepository.findEligibility(memberId, pilgrimageId)
+                        .map(PilgrimageConverter::toEligibilitySnapshot)
+                        .orElseThrow(() -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND)));
 
         // 사용자가 지난 24시간 내에 인증 버튼 눌렀는지 확인
-        boolean certifiedInLast = checkIfCertifiedInLast24Hours(member, pilgrimage);
+        boolean certifiedInLast = checkIfCertifiedInLast24Hours(snapshot);
         // 사용자가 이번 인증하기에 이미 방명록을 작성했는지 확인 (모든 상호작용 완료했는지)
-        boolean hasWrittenGuestbook = checkIfGuestbookWritten(member, pilgrimage);
+        boolean hasWrittenGuestbook = checkIfGuestbookWritten(snapshot);
 
         // 24시간 내 인증 기록이 있는가?
         if (!certifiedInLast) {
-            boolean isCertificationExpired = redisService.isCertificationExpired(member, pilgrimage);
+            boolean isCertificationExpired = redisService.isCertificationExpired(memberId, pilgrimageId);
             newState.setCertifyButtonEnabled((!isCertificationExpired) ? true : false);
         }
         // 이번 인증 기록에 대한 방명록이 있는가?
         else if (certifiedInLast && !hasWrittenGuestbook) {
-            boolean hasMultiWrittenGuestbook = checkIfMultiGuestbookWritten(member, pilgrimage);
+            boolean hasMultiWrittenGuestbook = checkIfMultiGuestbookWritten(snapshot);
             newState.setGuestbookButtonEnabled(hasMultiWrittenGuestbook? false : true);
             newState.setMultiGuestbookButtonEnabled(hasMultiWrittenGuestbook? true : false);
         }
-        synchronized (this) {
-            lastButtonStateCache.get(member.getId()).put(pilgrimageId, newState);
-        }
         return newState;
     }
 
@@ -256,43 +257,28 @@ public class PilgrimageCommandService {
      *
      * @return
      */
-    public PilgrimageSocketDto.ButtonState initButton (Member member, Long pilgrimageId) {
+    public PilgrimageSocketDto.ButtonState initButton (Long memberId, Long pilgrimageId) {
         PilgrimageSocketDto.ButtonState newState = new PilgrimageSocketDto.ButtonState();
         newState.setCertifyButtonEnabled(false);
         newState.setGuestbookButtonEnabled(false);
         newState.setMultiGuestbookButtonEnabled(false);
 
-        // 이미 캐시에 저장된 버튼이 있다면 바로 호출
-        synchronized (this) {
-            lastButtonStateCache.putIfAbsent(member.getId(), new ConcurrentHashMap<>());
-            Map<Long, PilgrimageSocketDto.ButtonState> pilgrimageStateMap = lastButtonStateCache.get(member.getId());
-
-            PilgrimageSocketDto.ButtonState lastState = pilgrimageStateMap.get(pilgrimageId);
-
-            if (lastState != null) {
-                pilgrimageStateMap.put(pilgrimageId, newState);
-                return lastState;
-            }
-            return newState;
-        }
+        // 이미 저장된 버튼이 있다면 바로 호출 (저장된 상태는 초기화)
+        PilgrimageSocketDto.ButtonState lastState = buttonStateStore.replaceIfPresent(memberId, pilgrimageId, newState);
+        return lastState != null ? lastState : newState;
     }
 
     /**
      * 24시간 이내 인증 기록이 있는지 확인
-     * @param member
-     * @param pilgrimage
+     * @param snapshot 인증/방명록 기록 요약
      * @return
      */
-    private boolean checkIfCertifiedInLast24Hours(Member member, Pilgrimage pilgrimage) {
-        List<VisitedPilgrimage> visitedPilgrimages = visitedPilgrimageRepository
-                .findByPilgrimageAndMemberOrderByCreatedAtDesc(pilgrimage, member);
-
-        if (visitedPilgrimages.isEmpty()) {
+    private boolean checkIfCertifiedInLast24Hours(PilgrimageSocketDto.EligibilitySnapshot snapshot) {
+        if (snapshot.getLastVisitedAt() == null) {
             return false;
         }
 
-        VisitedPilgrimage lastVisited = visitedPilgrimages.get(0);
-        ZonedDateTime lastVisitedTime = lastVisited.getCreatedAt().atZone(ZoneId.of("Asia/Seoul"));
+        ZonedDateTime lastVisitedTime = snapshot.getLastVisitedAt().atZone(ZoneId.of("Asia/Seoul"));
 
         ZonedDateTime nowInServerTimeZone = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
 
@@ -300,51 +286,23 @@ public class PilgrimageCommandService {
     }
 
     /**
-     * 방명록 작성 여부 확인
-     * @param member
-     * @param pilgrimage
+     * 방명록 작성 여부 확인 (최근 방문 인증 이후에 작성한 방명록이 있는지)
+     * @param snapshot 인증/방명록 기록 요약
      * @return
      */
-    private boolean checkIfGuestbookWritten(Member member, Pilgrimage pilgrimage) {
-        // 방명록 목록 조회
-        List<GuestBook> guestBookList = guestBookRepository.findByMemberAndPilgrimageOrderByCreatedAtDesc(member, pilgrimage);
-        if (guestBookList == null || guestBookList.isEmpty()) {
+    private boolean checkIfGuestbookWritten(PilgrimageSocketDto.EligibilitySnapshot snapshot) {
+        if (snapshot.getLastGuestBookAt() == null || snapshot.getLastVisitedAt() == null) {
             return false;
         }
-
-        // 방문 인증 정보 조회
-        List<VisitedPilgrimage> visitedPilgrimages = visitedPilgrimageRepository
-                .findByPilgrimageAndMemberOrderByCreatedAtDesc(pilgrimage, member);
-
-        if (visitedPilgrimages.isEmpty()) {
-            return false;
-        }
-
-        VisitedPilgrimage lastVisited = visitedPilgrimages.get(0);
-        ZonedDateTime lastVisitedTime = lastVisited.getCreatedAt().atZone(ZoneId.of("Asia/Seoul"));
-
-        // 최근 방문 인증 정보에 대한 방명록이 존재하는지 확인
-        for (GuestBook guestBook : guestBookList) {
-            ZonedDateTime guestBookCreatedTime = guestBook.getCreatedAt().atZone(ZoneId.of("Asia/Seoul"));
-
-            if (guestBookCreatedTime.isAfter(lastVisitedTime)) {
-                return true;
-            }
-        }
-        return false;
+        return snapshot.getLastGuestBookAt().isAfter(snapshot.getLastVisitedAt());
     }
 
     /**
      * 방명록 다회 작성 여부 확인
-     * @param member
-     * @param pilgrimage
+     * @param snapshot 인증/방명록 기록 요약
      * @return
      */
-    private boolean checkIfMultiGuestbookWritten(Member member, Pilgrimage pilgrimage) {
-        List<GuestBook> guestBookList = guestBookRepository.findByMemberAndPilgrimageOrderByCreatedAtDesc(member, pilgrimage);
-        if (guestBookList == null || guestBookList.isEmpty()) {
-            return false;
-        }
-        return true;
+    private boolean checkIfMultiGuestbookWritten(PilgrimageSocketDto.EligibilitySnapshot snapshot) {
+        return snapshot.getGuestBookCount() > 0;
     }
 }
@@ -12,14 +12,22 @@ import com.favoriteplace.app.dto.community.GuestBookResponseDto;
 import com.favoriteplace.app.dto.travel.PilgrimageDto;
 import com.favoriteplace.app.dto.travel.RallyDto;
 import com.favoriteplace.app.repository.*;
+import com.favoriteplace.global.catalog.CatalogCache;
+import com.favoriteplace.global.catalog.CatalogSearchIndex;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
+import com.favoriteplace.global.catalog.PrecomputedJson;
+import com.favoriteplace.global.catalog.RegionCategoryTree;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
+import com.favoriteplace.global.geo.PilgrimageSpatialIndex;
+import com.favoriteplace.global.trending.RallyTrendingLeaderboard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +47,14 @@ public class PilgrimageQueryService {
     private final GuestBookRepository guestBookRepository;
     private final HashtagRepository hashtagRepository;
     private final ImageRepository imageRepository;
+    private final PilgrimageSpatialIndex pilgrimageSpatialIndex;
+    private final MemberRallyProgressService memberRallyProgressService;
+    private final RallyMapService rallyMapService;
+    private final CatalogCache catalogCache;
+    private final RegionCategoryTree regionCategoryTree;
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final RallyTrendingLeaderboard rallyTrendingLeaderboard;
+    private static final double MAX_NEARBY_RADIUS = 5000.0;
 
     /***
      * 랠리 상세
@@ -53,8 +69,7 @@ public class PilgrimageQueryService {
             return RallyConverter.toRallyDetailResponseDto(rally, 0L, false, false);
         }
         LikedRally isLikeList = likedRallyRepository.findByRallyAndMember(rally, member);
-        Long pilgrimageNumber = visitedPilgrimageRepository
-                .findByDistinctCount(member.getId(), rally.getId());
+        Long pilgrimageNumber = memberRallyProgressService.getVisitedCount(member.getId(), rally.getId());
         if (isLikeList == null) {
             return RallyConverter.toRallyDetailResponseDto(rally, pilgrimageNumber, false, true);
         }
@@ -68,52 +83,18 @@ public class PilgrimageQueryService {
      * @return 한 랠리에 대한 성지순례 리스트 dto
      */
     public RallyDto.RallyAddressListDto getRallyAddressList(Long rallyId, Member member) {
-        Rally rally = rallyRepository.findById(rallyId).orElseThrow(
-                ()-> new RestApiException(ErrorCode.RALLY_NOT_FOUND));
-
-        // 주소, 성지순례 리스트 정보 담은 주소 리스트 생성
-        List<Address> addressList = addressRepository.findByPilgrimages_Rally(rally);
-        System.out.println(addressList.size());
-        if (addressList.isEmpty()) throw new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND);
-
-        List<RallyDto.RallyAddressDto> addressDtoList = addressList.stream()
-                .map(address -> rallyAddressDtoList(rally, address))
-                .collect(Collectors.toList());
-
-        // 회원이라면 방문기록 수정하기
-        if (member != null){
-            addressDtoList.stream().forEach(rallyAddressDto ->
-                    rallyAddressDto.getPilgrimage()
-                    .stream()
-                    .forEach(rallyAddressPilgrimageDto ->
-                            checkVisitedPilgrimage(rallyAddressPilgrimageDto, member)));
-            Long myPilgrimageNumber = visitedPilgrimageRepository
-                    .findByDistinctCount(member.getId(), rally.getId());
-            return RallyConverter.toRallyAddressListDto(rally, addressDtoList, myPilgrimageNumber);
-        }
-        // RallyAddressListDto 생성 후 반환하기
-        return RallyConverter.toRallyAddressListDto(rally, addressDtoList, 0L);
-    }
-
-    private void checkVisitedPilgrimage(RallyDto.RallyAddressPilgrimageDto dto, Member member){
-        Pilgrimage pilgrimage = pilgrimageRepository.findById(dto.getId())
-                .orElseThrow(() -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
-        List<VisitedPilgrimage> count = visitedPilgrimageRepository
-                .findByPilgrimageAndMemberOrderByCreatedAtDesc(pilgrimage, member);
-        if (!count.isEmpty()){
-            dto.setIsVisited(true);
+        // 주소, 성지순례 리스트 정보는 캐시된 랠리 지도 사용 (없는 랠리라면 카탈로그를 한 번 다시 적재)
+        catalogCache.getRally(rallyId);
+        RallyDto.RallyAddressListDto rallyMap = rallyMapService.getRallyMap(catalogCache.get(), rallyId);
+        if (member == null) {
+            return rallyMap;
         }
-    }
-
-    // 어떤 랠리의 어떤 주소에 대한 모든 성지순례 조회 (isVisited false로 초기화)
-    private RallyDto.RallyAddressDto rallyAddressDtoList(Rally rally, Address address){
-        List<Pilgrimage> pilgrimageList = pilgrimageRepository.findByRallyAndAddress(rally, address);
-
-        List<RallyDto.RallyAddressPilgrimageDto> dtoList = pilgrimageList.stream().map(pilgrimage ->
-                        RallyConverter.toRallyAddressPilgrimageDto(pilgrimage))
-                .collect(Collectors.toList());
 
-        return RallyConverter.toRallyAddressDto(address, dtoList);
+        // 회원이라면 방문한 성지순례 ID를 한 번에 조회해서 방문기록 채우기
+        Set<Long> visitedPilgrimageIds = new HashSet<>(
+                visitedPilgrimageRepository.findVisitedPilgrimageIds(member.getId(), rallyId));
+        Long myPilgrimageNumber = memberRallyProgressService.getVisitedCount(member.getId(), rallyId);
+        return RallyConverter.toRallyAddressListDto(rallyMap, visitedPilgrimageIds, myPilgrimageNumber);
     }
 
     /***
@@ -123,29 +104,29 @@ public class PilgrimageQueryService {
      * @return 성지순례 상세페이지 dto
      */
     public PilgrimageDto.PilgrimageDetailDto getPilgrimageDetail(Long pilgrimageId, Member member) {
-        Pilgrimage pilgrimage = pilgrimageRepository.findById(pilgrimageId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
+        CatalogSnapshot.PilgrimageEntry pilgrimage = catalogCache.getPilgrimage(pilgrimageId);
+        CatalogSnapshot.RallyEntry rally = catalogCache.getRally(pilgrimage.getRallyId());
         if (member == null){
-            PilgrimageDto.PilgrimageDetailDto result = PilgrimageConverter.toPilgrimageDetailDto(pilgrimage, 0L);
+            PilgrimageDto.PilgrimageDetailDto result = PilgrimageConverter.toPilgrimageDetailDto(pilgrimage, rally, 0L);
             result.setIsCertified(false);
             return result;
         }
-        Long visitedPilgrimages = visitedPilgrimageRepository
-                .findByDistinctCount(member.getId(), pilgrimage.getRally().getId());
-        PilgrimageDto.PilgrimageDetailDto result = PilgrimageConverter.toPilgrimageDetailDto(pilgrimage, visitedPilgrimages);
+        Long visitedPilgrimages = memberRallyProgressService.getVisitedCount(member.getId(), rally.getId());
+        PilgrimageDto.PilgrimageDetailDto result = PilgrimageConverter.toPilgrimageDetailDto(pilgrimage, rally, visitedPilgrimages);
 
-        List<VisitedPilgrimage> visitedLog = visitedPilgrimageRepository
-                .findByPilgrimageAndMemberOrderByCreatedAtDesc(pilgrimage, member);
+        // 방문 기록 전체 대신 마지막 방문 시각과 방문 횟수만 조회
+        Optional<LocalDateTime> lastVisitedAt = visitedPilgrimageRepository.findLastVisitedAt(member.getId(), pilgrimageId);
+        long visitedCount = visitedPilgrimageRepository.countByMemberIdAndPilgrimageId(member.getId(), pilgrimageId);
         // 24시간 이내 인증 기록이 있는지 확인
-        if (!visitedLog.isEmpty() && visitedLog.get(0).getCreatedAt().plusHours(24L).isAfter(LocalDateTime.now())) {
+        if (lastVisitedAt.isPresent() && lastVisitedAt.get().plusHours(24L).isAfter(LocalDateTime.now())) {
             result.setIsCertified(false);
         }
         // 이 성지순례에 인증 기록이 있다면 isWritable -> true
-        if (visitedLog.size() == 1) {
+        if (visitedCount == 1) {
             result.setIsWritable(true);
         }
         // 이 성지순례에 인증 기록이 두 개 이상이라면 isisMultiWritable -> true
-        if (visitedLog.size() >= 2) {
+        if (visitedCount >= 2) {
             result.setIsMultiWritable(true);
         }
         return result;
@@ -173,11 +154,7 @@ public class PilgrimageQueryService {
     private List<PilgrimageDto.LikedRallyDto> getLikedRally(Member member) {
         List<LikedRally> likedRally = likedRallyRepository.findByMember(member);
         return likedRally.stream().map(
-                        likeRally -> {
-                            Rally rally = rallyRepository.findById(likeRally.getRally().getId())
-                                    .orElseThrow(()->new RestApiException(ErrorCode.RALLY_NOT_FOUND));
-                            return PilgrimageConverter.toLikedRallyDto(rally);
-                        })
+                        likeRally -> PilgrimageConverter.toLikedRallyDto(catalogCache.getRally(likeRally.getRally().getId())))
                 .collect(Collectors.toList());
     }
 
@@ -198,17 +175,16 @@ public class PilgrimageQueryService {
      * @return 당월 1일 부터 현재까지의 좋아요 집계 1위 랠리
      */
     public RallyDto.RallyTrendingDto getRallyTrending(Member member) {
-        List<Rally> rallys = likedRallyRepository.findMonthlyTrendingRally(
-                LocalDateTime.now().withDayOfMonth(1));
+        List<RallyTrendingLeaderboard.TrendingRally> rallys = rallyTrendingLeaderboard.getTop(1);
         if (rallys.isEmpty()) {
             throw new RestApiException(ErrorCode.TRENDING_RALLY_NOT_FOUND);
         }
+        CatalogSnapshot.RallyEntry rally = catalogCache.getRally(rallys.get(0).getRallyId());
         if (member == null) {
-            return RallyConverter.toRallyTrendingDto(rallys.get(0),0L);
+            return RallyConverter.toRallyTrendingDto(rally,0L);
         }
-        Long visited = visitedPilgrimageRepository
-                .findByDistinctCount(member.getId(), rallys.get(0).getId());
-        return RallyConverter.toRallyTrendingDto(rallys.get(0), visited);
+        Long visited = memberRallyProgressService.getVisitedCount(member.getId(), rally.getId());
+        return RallyConverter.toRallyTrendingDto(rally, visited);
     }
 
     /***
@@ -218,62 +194,35 @@ public class PilgrimageQueryService {
      */
     public List<RallyDto.PilgrimageCategoryAnimeDto> getCategoryAnime(Member member) {
         // 전체 랠리 최신 순으로 조회하기
-        List<Rally> rallyList = rallyRepository.findAllOrderByCreatedAt();
+        List<CatalogSnapshot.RallyEntry> rallyList = catalogCache.get().getRallies();
         if (member == null) {
             return rallyList.stream()
                     .map(rally -> RallyConverter.toPilgrimageCategoryAnimeDto(rally, 0L))
                     .collect(Collectors.toList());
         }
+        List<Long> rallyIds = rallyList.stream().map(CatalogSnapshot.RallyEntry::getId).collect(Collectors.toList());
+        Map<Long, Long> visitedCounts = memberRallyProgressService.getVisitedCounts(member.getId(), rallyIds);
         return rallyList.stream().map(rally->{
-            Long visitedPilgrimages = visitedPilgrimageRepository.findByDistinctCount(member.getId(), rally.getId());
+            Long visitedPilgrimages = visitedCounts.getOrDefault(rally.getId(), 0L);
             return RallyConverter.toPilgrimageCategoryAnimeDto(rally, visitedPilgrimages);
         }).collect(Collectors.toList());
     }
 
     /***
      * 성지순례 지역 별 카테고리
-     * @return state 별로 그룹화 한 지역 정보
+     * @return state 별로 그룹화 한 지역 정보 (미리 직렬화된 JSON)
      */
-    public List<PilgrimageDto.PilgrimageCategoryRegionDto> getCategoryRegion() {
-        List<Address> address = addressRepository.findAll();
-
-        // 전체 state 추출
-        Set<String> addressKeyList = address.stream()
-                .map(Address::getState)
-                .collect(Collectors.toSet());
-
-        // 전체 address 정보 state 별로 그룹화
-        Map<String, List<Address>> addressGroupByState = address.stream()
-                .collect(Collectors.groupingBy(Address::getState));
-
-        List<PilgrimageDto.PilgrimageCategoryRegionDto> dtos = addressKeyList.stream().map(
-                stateKey -> {
-                    List<Address> addressList = addressGroupByState.get(stateKey);
-                    List<PilgrimageDto.PilgrimageAddressDetailDto> addressDetailDtos = addressList.stream().map(addressDetail ->
-                            PilgrimageConverter.toPilgrimageAddressDetailDto(addressDetail)
-                    ).collect(Collectors.toList());
-                    return PilgrimageConverter.toPilgrimageCategoryRegionDto(stateKey, addressDetailDtos);
-                }
-        ).collect(Collectors.toList());
-        return dtos;
+    public PrecomputedJson getCategoryRegion() {
+        return regionCategoryTree.getRegions();
     }
 
     /***
      * 성지순례 지역 상세 카테고리
      * @param regionId
-     * @return district 별 성지순례 리스트
+     * @return district 별 성지순례 리스트 (미리 직렬화된 JSON)
      */
-    public List<PilgrimageDto.PilgrimageCategoryRegionDetailDto> getCategoryRegionDetail(Long regionId) {
-        Address address = addressRepository.findById(regionId).orElseThrow(()->
-                new RestApiException(ErrorCode.ADDRESS_NOT_FOUND));
-        List<Pilgrimage> pilgrimages = pilgrimageRepository.findByAddress(address);
-
-        return pilgrimages.stream()
-                .map(pilgrimage -> {
-                    Rally rally = rallyRepository.findByPilgrimage(pilgrimage);
-                    return PilgrimageConverter.toPilgrimageCategoryRegionDetailDto(rally.getName(), pilgrimage);
-                })
-                .collect(Collectors.toList());
+    public PrecomputedJson getCategoryRegionDetail(Long regionId) {
+        return regionCategoryTree.getDistrict(regionId);
     }
 
     /**
@@ -283,28 +232,46 @@ public class PilgrimageQueryService {
      * @return
      */
     public List<RallyDto.SearchAnimeDto> searchAnime(String value, Member member) {
-        List<Rally> rallyList = rallyRepository.findByName(value);
+        List<CatalogSnapshot.RallyEntry> rallyList = catalogSearchIndex.searchRallies(value);
+        List<Long> rallyIds = rallyList.stream().map(CatalogSnapshot.RallyEntry::getId).collect(Collectors.toList());
+        Map<Long, Long> visitedCounts = member == null ? Map.of()
+                : memberRallyProgressService.getVisitedCounts(member.getId(), rallyIds);
         return rallyList.stream().map(rally -> {
-            Long visitedPilgrimages = 0L;
-            if (member != null) {
-                visitedPilgrimages = visitedPilgrimageRepository.findByDistinctCount(member.getId(), rally.getId());
-            }
+            Long visitedPilgrimages = visitedCounts.getOrDefault(rally.getId(), 0L);
             return RallyConverter.toSearchAnimeDto(rally, visitedPilgrimages);
         }).collect(Collectors.toList());
     }
 
+    /**
+     * 지역 별 성지순례 검색
+     * @param value 검색어 (state, district)
+     * @param member 사용자
+     * @return
+     */
     public List<RallyDto.SearchRegionDto> searchRegion(String value, Member member) {
-        List<Address> addressList = addressRepository.findByStateOrDistrictContaining(value);
-
-        return addressList.stream().map(address-> {
-            log.info("address=" + address.getState()+' '+address.getDistrict());
-            List<Pilgrimage> pilgrimages = pilgrimageRepository.findByAddress(address);
+        CatalogSnapshot catalog = catalogCache.get();
+        return catalogSearchIndex.searchAddresses(value).stream().map(address-> {
             String name = address.getState() + ' ' + address.getDistrict();
-            List<RallyDto.SearchRegionDetailDto> resultList = pilgrimages.stream()
-                    .map(pilgrimage -> {
-                        return RallyConverter.toSearchRegionDetailDto(pilgrimage);
-                    }).collect(Collectors.toList());
+            List<RallyDto.SearchRegionDetailDto> resultList = catalog.getPilgrimagesByAddress(address.getId()).stream()
+                    .map(RallyConverter::toSearchRegionDetailDto)
+                    .collect(Collectors.toList());
             return RallyConverter.toSearchRegionDto(name, resultList);
         }).collect(Collectors.toList());
     }
+
+    /**
+     * 사용자 위치 반경 내의 성지순례 (가까운 순)
+     * @param latitude 사용자의 위도
+     * @param longitude 사용자의 경도
+     * @param radius 반경(m), 최대 5km
+     * @return
+     */
+    public List<PilgrimageDto.PilgrimageNearbyDto> getNearbyPilgrimages(Double latitude, Double longitude, Double radius) {
+        if (latitude == null || longitude == null || radius == null || radius <= 0)
+            throw new RestApiException(ErrorCode.INVALID_ARGUMENT_ERROR);
+        return pilgrimageSpatialIndex.findWithin(latitude, longitude, Math.min(radius, MAX_NEARBY_RADIUS))
+                .stream()
+                .map(PilgrimageConverter::toPilgrimageNearbyDto)
+                .collect(Collectors.toList());
+    }
 }
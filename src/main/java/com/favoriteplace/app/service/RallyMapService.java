@@ -0,0 +1,63 @@
+package com.favoriteplace.app.service;
+
+import com.favoriteplace.app.converter.RallyConverter;
+import com.favoriteplace.app.dto.travel.RallyDto;
+import com.favoriteplace.global.catalog.CatalogRefreshedEvent;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
+import com.favoriteplace.global.config.CacheConfig;
+import com.favoriteplace.global.exception.ErrorCode;
+import com.favoriteplace.global.exception.RestApiException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 랠리 지도 (주소별 성지순례 목록)
+ * 카탈로그 스냅샷으로 만들고, 사용자와 무관한 정보이므로 캐시하며 방문 여부는 호출하는 쪽에서 복사본에 채움
+ */
+@Service
+public class RallyMapService {
+
+    /**
+     * 비회원 기준 랠리 지도 (방문 여부 false, 내 방문 수 0)
+     * 스냅샷 버전별로 캐시하므로 카탈로그와 다른 내용을 돌려주지 않음, 캐시된 객체이므로 수정하지 말 것
+     * @param catalog 호출 시점의 카탈로그 스냅샷 (CatalogCache.get())
+     * @param rallyId 랠리 ID
+     */
+    @Cacheable(cacheNames = CacheConfig.RALLY_MAP, key = "#catalog.version + ':' + #rallyId")
+    public RallyDto.RallyAddressListDto getRallyMap(CatalogSnapshot catalog, Long rallyId) {
+        CatalogSnapshot.RallyEntry rally = catalog.findRally(rallyId).orElseThrow(
+                ()-> new RestApiException(ErrorCode.RALLY_NOT_FOUND));
+
+        List<CatalogSnapshot.PilgrimageEntry> pilgrimages = catalog.getPilgrimagesByRally(rallyId);
+        if (pilgrimages.isEmpty()) throw new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND);
+
+        // 주소 ID 순, 같은 주소 안에서는 성지순례 ID 순으로 묶기
+        Map<Long, List<RallyDto.RallyAddressPilgrimageDto>> pilgrimagesByAddress = pilgrimages.stream()
+                .sorted(Comparator.comparing(CatalogSnapshot.PilgrimageEntry::getAddressId)
+                        .thenComparing(CatalogSnapshot.PilgrimageEntry::getId))
+                .collect(Collectors.groupingBy(CatalogSnapshot.PilgrimageEntry::getAddressId, LinkedHashMap::new,
+                        Collectors.mapping(RallyConverter::toRallyAddressPilgrimageDto, Collectors.toList())));
+
+        List<RallyDto.RallyAddressDto> addressDtoList = pilgrimagesByAddress.entrySet().stream()
+                .map(entry -> RallyConverter.toRallyAddressDto(
+                        catalog.findAddress(entry.getKey()).orElseThrow(
+                                () -> new RestApiException(ErrorCode.ADDRESS_NOT_FOUND)),
+                        entry.getValue()))
+                .collect(Collectors.toList());
+        return RallyConverter.toRallyAddressListDto(rally, addressDtoList, 0L);
+    }
+
+    // 이전 버전 스냅샷으로 만든 랠리 지도는 더 이상 조회되지 않으므로 비움
+    @EventListener
+    @CacheEvict(cacheNames = CacheConfig.RALLY_MAP, allEntries = true)
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+    }
+}
@@ -9,12 +9,15 @@ import com.favoriteplace.app.repository.GuestBookImplRepository;
 import com.favoriteplace.app.repository.PostImplRepository;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
+import com.favoriteplace.global.profile.MemberProfileCache;
+import com.favoriteplace.global.profile.MemberProfileCard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,12 +25,17 @@ import java.util.stream.Collectors;
 public class TotalPostService {
     private final PostImplRepository postImplRepository;
     private final GuestBookImplRepository guestBookImplRepository;
+    private final MemberProfileCache memberProfileCache;
 
     public List<HomeResponseDto.TrendingPost> getTrendingPosts() {
         List<Object> combinedPosts = getNTrendingPosts(5, "day");
+        List<Object> todayPosts = combinedPosts.subList(0, Math.min(5, combinedPosts.size()));
+        Map<Long, MemberProfileCard> profiles = memberProfileCache.getAll(todayPosts.stream()
+                .map(o -> o instanceof GuestBook guestBook ? guestBook.getMember().getId() : ((Post) o).getMember().getId())
+                .collect(Collectors.toSet()));
         List<HomeResponseDto.TrendingPost> trendingPosts = new ArrayList<>();
-        for(int i=0; i< combinedPosts.size() && i<5; i++){
-            trendingPosts.add(convertToTodayTrendingPost(combinedPosts.get(i), i+1));
+        for(int i=0; i< todayPosts.size(); i++){
+            trendingPosts.add(convertToTodayTrendingPost(todayPosts.get(i), i+1, profiles));
         }
         return trendingPosts;
     }
@@ -70,12 +78,12 @@ public class TotalPostService {
     }
 
 
-    private HomeResponseDto.TrendingPost convertToTodayTrendingPost(Object object, int rank){
+    private HomeResponseDto.TrendingPost convertToTodayTrendingPost(Object object, int rank, Map<Long, MemberProfileCard> profiles){
         if(object instanceof GuestBook guestBook){
-            return TrendingPostConverter.toGuestBookTrending(guestBook, rank);
+            return TrendingPostConverter.toGuestBookTrending(guestBook, profiles.get(guestBook.getMember().getId()), rank);
         }
         else if(object instanceof Post post){
-            return TrendingPostConverter.toGuestBookTrending(post, rank);
+            return TrendingPostConverter.toGuestBookTrending(post, profiles.get(post.getMember().getId()), rank);
         }
         else{
             throw new RestApiException(ErrorCode.INTERNAL_SERVER_ERROR);
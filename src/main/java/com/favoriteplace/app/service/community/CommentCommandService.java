@@ -41,6 +41,7 @@ public class CommentCommandService {
         Comment newComment = setCommentRelation(member, dto);
         post.addComment(newComment);
         commentRepository.save(newComment);
+        postRepository.addCommentCount(postId, 1);
         return newComment.getId();
     }
 
@@ -53,6 +54,7 @@ public class CommentCommandService {
         Comment newComment = setCommentRelation(member, dto);
         guestBook.addComment(newComment);
         commentRepository.save(newComment);
+        guestBookRepository.addCommentCount(guestbookId, 1);
         return newComment.getId();
     }
 
@@ -129,6 +131,8 @@ public class CommentCommandService {
         Comment comment = commentRepository.findById(commendId).orElseThrow(() -> new RestApiException(ErrorCode.COMMENT_NOT_FOUND));
         checkAuthOfComment(member, comment);
         checkIsDeleteOfComment(comment);
+        // soft/hard delete 모두 삭제되지 않은 댓글이 하나 줄어듦 (이미 soft delete 된 댓글의 hard delete 는 변화 없음)
+        decreaseCommentCount(comment);
         // 최상위 댓글
         if(comment.getCommentType() == CommentType.PARENT_COMMENT){
             // 대댓글이 있는 경우 - soft delete
@@ -152,6 +156,15 @@ public class CommentCommandService {
         }
     }
 
+    private void decreaseCommentCount(Comment comment){
+        if(comment.getPost() != null){
+            postRepository.addCommentCount(comment.getPost().getId(), -1);
+        }
+        else if(comment.getGuestBook() != null){
+            guestBookRepository.addCommentCount(comment.getGuestBook().getId(), -1);
+        }
+    }
+
     /**
      * 내가 참조하는 댓글이 soft delete -> hard delete 가능한 경우
      */
@@ -0,0 +1,44 @@
+package com.favoriteplace.app.service.community;
+
+import com.favoriteplace.app.repository.GuestBookRepository;
+import com.favoriteplace.app.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글, 인증글의 commentCount 를 실제 댓글 수와 맞춤
+ * 회원 탈퇴 등 CommentCommandService 를 거치지 않은 삭제로 생긴 차이를 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+    private final PostRepository postRepository;
+    private final GuestBookRepository guestBookRepository;
+
+    // 전체 글을 갱신하므로 기본으로는 끄고, 컬럼을 추가하는 배포에서만 켬
+    @Value("${community.comment-count.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileIfEnabled() {
+        if (reconcileOnStartup)
+            reconcile();
+    }
+
+    @Scheduled(cron = "${community.comment-count.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void reconcile() {
+        int posts = postRepository.reconcileCommentCount();
+        int guestBooks = guestBookRepository.reconcileCommentCount();
+        if (posts + guestBooks > 0)
+            log.info("comment count reconciled: posts=" + posts + ", guestBooks=" + guestBooks);
+    }
+}
@@ -7,43 +7,57 @@ import com.favoriteplace.app.dto.community.CommentResponseDto;
 import com.favoriteplace.app.dto.community.GuestBookResponseDto;
 import com.favoriteplace.app.dto.community.PostResponseDto;
 import com.favoriteplace.app.repository.CommentImplRepository;
+import com.favoriteplace.global.profile.MemberProfileCache;
+import com.favoriteplace.global.profile.MemberProfileCard;
+import com.favoriteplace.global.util.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentQueryService {
     private final CommentImplRepository commentImplRepository;
+    private final MemberProfileCache memberProfileCache;
 
     /**
      * 특정 자유게시글에 작성된 댓글들을 페이징해서 보여주는 함수
      */
-    public CommentResponseDto.CommentDto getPostComments(Member member, int page, int size, Long postId) {
-        List<Comment> commentPage = commentImplRepository.findParentCommentsByPostId(postId, page, size);
-        return makeCommentDtoFromParentComment(commentPage, member, page);
+    public CommentResponseDto.CommentDto getPostComments(Member member, int page, int size, Long postId, String cursor) {
+        List<Comment> commentPage = cursor == null
+                ? commentImplRepository.findParentCommentsByPostId(postId, page, size)
+                : commentImplRepository.findParentCommentsByPostId(postId, FeedCursor.decodeCreatedAt(cursor), size);
+        return makeCommentDtoFromParentComment(commentPage, member, page, size, cursor);
     }
 
     /**
      * 커뷰니티 : 성지순례 인증글의 댓글 전부 보여주기
      * @return 페이징 된 댓글 리스트
      */
-    public CommentResponseDto.CommentDto getGuestBookComments(int page, int size, Member member, Long guestbookId) {
+    public CommentResponseDto.CommentDto getGuestBookComments(int page, int size, Member member, Long guestbookId, String cursor) {
         // 부모 댓글 가져옴
-        List<Comment> commentPage = commentImplRepository.findParentCommentByGuestBookId(guestbookId, page, size);
-        return makeCommentDtoFromParentComment(commentPage, member, page);
+        List<Comment> commentPage = cursor == null
+                ? commentImplRepository.findParentCommentByGuestBookId(guestbookId, page, size)
+                : commentImplRepository.findParentCommentByGuestBookId(guestbookId, FeedCursor.decodeCreatedAt(cursor), size);
+        return makeCommentDtoFromParentComment(commentPage, member, page, size, cursor);
     }
 
 
     /**
      * 자유게시판에서 내가 작성한 댓글을 불려오는 기능 (삭제한 댓글은 안보여줌)
      */
-    public PostResponseDto.MyCommentDto getMyPostComments(Member member, int page, int size) {
-        List<Comment> pageComment = commentImplRepository.findMyPostComments(member.getId(), page, size);
+    public PostResponseDto.MyCommentDto getMyPostComments(Member member, int page, int size, String cursor) {
+        List<Comment> pageComment = cursor == null
+                ? commentImplRepository.findMyPostComments(member.getId(), page, size)
+                : commentImplRepository.findMyPostComments(member.getId(), FeedCursor.decodeCreatedAt(cursor), size);
         List<PostResponseDto.MyComment> comments;
         if(pageComment.isEmpty()){
             comments = Collections.emptyList();
@@ -53,17 +67,20 @@ public class CommentQueryService {
                     .toList();
         }
         return PostResponseDto.MyCommentDto.builder()
-                .page((long) page)
+                .page(cursor == null ? (long) page : null)
                 .size((long) comments.size())
                 .comment(comments)
+                .nextCursor(FeedCursor.next(pageComment, size, CommentQueryService::cursorOf))
                 .build();
     }
 
     /**
      * 사용자가 성지순례 인증글에서 작성한 댓글들을 모두 보여주는 함수 (삭제한 댓글은 안보여줌)
      */
-    public GuestBookResponseDto.MyGuestBookCommentDto getMyGuestBookComments(Member member, int page, int size) {
-        List<Comment> pageComment = commentImplRepository.findMyGuestBookComments(member.getId(), page, size);
+    public GuestBookResponseDto.MyGuestBookCommentDto getMyGuestBookComments(Member member, int page, int size, String cursor) {
+        List<Comment> pageComment = cursor == null
+                ? commentImplRepository.findMyGuestBookComments(member.getId(), page, size)
+                : commentImplRepository.findMyGuestBookComments(member.getId(), FeedCursor.decodeCreatedAt(cursor), size);
         List<GuestBookResponseDto.MyGuestBookComment> comments;
         if(pageComment.isEmpty()){
             comments = Collections.emptyList();
@@ -73,9 +90,10 @@ public class CommentQueryService {
                     .map(CommentConverter::toMyGuestBookComment).toList();
         }
         return GuestBookResponseDto.MyGuestBookCommentDto.builder()
-                .page((long) page)
+                .page(cursor == null ? (long) page : null)
                 .size((long) comments.size())
                 .comment(comments)
+                .nextCursor(FeedCursor.next(pageComment, size, CommentQueryService::cursorOf))
                 .build();
     }
 
@@ -83,14 +101,20 @@ public class CommentQueryService {
     /**
      * 부모 댓글을 사용해서 자식 댓글 매핑하고, DTO 생성
      */
-    private CommentResponseDto.CommentDto makeCommentDtoFromParentComment(List<Comment> commentPage, Member member, int page){
-        // 자식 댓글 가져옴
+    private CommentResponseDto.CommentDto makeCommentDtoFromParentComment(List<Comment> commentPage, Member member, int page, int size, String cursor){
+        // 자식 댓글은 부모 댓글 id 로 한 번에 가져와서 부모별로 묶음
         List<CommentResponseDto.ParentComment> comments;
         if(commentPage.isEmpty()){
             comments = Collections.emptyList();
         }else{
+            Map<Long, List<Comment>> subComments = commentImplRepository.findSubCommentsByParentCommentIds(
+                            commentPage.stream().map(Comment::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(comment -> comment.getParentComment().getId()));
+            Map<Long, MemberProfileCard> profiles = memberProfileCache.getAll(collectWriterIds(commentPage, subComments));
             comments = commentPage.stream()
-                    .map(comment -> CommentConverter.toComment(comment, member, commentImplRepository.findSubCommentByCommentId(comment.getId())))
+                    .map(comment -> CommentConverter.toComment(comment, member,
+                            subComments.getOrDefault(comment.getId(), Collections.emptyList()), profiles))
                     .toList();
         }
         // size 계산
@@ -99,10 +123,35 @@ public class CommentQueryService {
             pageSize += (1 + parentComment.getSubComments().size());
         }
         return CommentResponseDto.CommentDto.builder()
-                .page((long) page)
+                .page(cursor == null ? (long) page : null)
                 .size((long) pageSize)
                 .parentComment(comments)
+                .nextCursor(FeedCursor.next(commentPage, size, CommentQueryService::cursorOf))
                 .build();
     }
 
+    /**
+     * 화면에 보여줄 작성자 id (삭제되지 않은 댓글 작성자 + 대댓글이 언급한 댓글 작성자)
+     */
+    private static Set<Long> collectWriterIds(List<Comment> parentComments, Map<Long, List<Comment>> subComments){
+        Set<Long> writerIds = new HashSet<>();
+        for(Comment comment : parentComments){
+            if(!comment.getIsDeleted()){writerIds.add(comment.getMember().getId());}
+        }
+        for(List<Comment> children : subComments.values()){
+            for(Comment comment : children){
+                if(comment.getIsDeleted()){continue;}
+                writerIds.add(comment.getMember().getId());
+                if(comment.getReferenceComment() != null){
+                    writerIds.add(comment.getReferenceComment().getMember().getId());
+                }
+            }
+        }
+        return writerIds;
+    }
+
+    private static String cursorOf(Comment comment) {
+        return FeedCursor.ofCreatedAt(comment.getCreatedAt(), comment.getId()).encode();
+    }
+
 }
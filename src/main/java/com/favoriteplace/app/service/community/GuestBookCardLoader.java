@@ -0,0 +1,42 @@
+package com.favoriteplace.app.service.community;
+
+import com.favoriteplace.app.converter.GuestBookConverter;
+import com.favoriteplace.app.domain.community.GuestBook;
+import com.favoriteplace.app.dto.community.GuestBookResponseDto;
+import com.favoriteplace.app.repository.HashtagRepository;
+import com.favoriteplace.app.repository.ImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 인증글 목록 카드에 필요한 썸네일, 해시태그를 페이지 단위로 한 번에 조회
+ * 글마다 images, hashTags 를 지연 로딩하지 않고 페이지 크기와 상관없이 IN 쿼리로 처리 (댓글 수는 commentCount 컬럼 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class GuestBookCardLoader {
+    private final ImageRepository imageRepository;
+    private final HashtagRepository hashtagRepository;
+
+    public List<GuestBookResponseDto.TotalGuestBookInfo> toTotalGuestBookInfos(List<GuestBook> guestBooks) {
+        if (guestBooks.isEmpty())
+            return Collections.emptyList();
+        List<Long> guestBookIds = guestBooks.stream().map(GuestBook::getId).toList();
+        Map<Long, String> thumbnails = imageRepository.findThumbnailsByGuestBookIds(guestBookIds).stream()
+                .collect(Collectors.toMap(ImageRepository.ThumbnailView::getGuestBookId, ImageRepository.ThumbnailView::getUrl));
+        Map<Long, List<String>> hashTags = hashtagRepository.findTagNamesByGuestBookIds(guestBookIds).stream()
+                .collect(Collectors.groupingBy(HashtagRepository.TagNameView::getGuestBookId,
+                        Collectors.mapping(HashtagRepository.TagNameView::getTagName, Collectors.toList())));
+
+        return guestBooks.stream()
+                .map(guestBook -> GuestBookConverter.toTotalGuestBookInfo(guestBook,
+                        thumbnails.get(guestBook.getId()),
+                        hashTags.getOrDefault(guestBook.getId(), Collections.emptyList())))
+                .toList();
+    }
+}
@@ -20,11 +20,13 @@ import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
 import com.favoriteplace.global.gcpImage.UploadImage;
 import com.favoriteplace.global.s3Image.AmazonS3ImageManager;
+import com.favoriteplace.global.websocket.EligibilityChangedEvent;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,6 +44,7 @@ public class GuestBookCommandService {
     private final VisitedPilgrimageRepository visitedPilgrimageRepository;
     private final PointHistoryRepository pointHistoryRepository;
     private final AmazonS3ImageManager amazonS3ImageManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 성지순례 인증글 수정
@@ -86,6 +89,7 @@ public class GuestBookCommandService {
         checkAuthOfGuestBook(member, guestBook);
         likedPostRepository.deleteByGuestBookIdAndMemberId(guestBook.getId(), member.getId());
         guestBookRepository.deleteById(guestbookId);
+        eventPublisher.publishEvent(new EligibilityChangedEvent(member.getId(), guestBook.getPilgrimage().getId()));
     }
 
 //    /**
@@ -169,6 +173,7 @@ public class GuestBookCommandService {
 
         successPostAndPointProcess(member, pilgrimage);
         log.info("success point update");
+        eventPublisher.publishEvent(new EligibilityChangedEvent(member.getId(), pilgrimage.getId()));
 
         return PostResponseDto.GuestBookIdResponseDto.builder().guestBookId(newGuestBook.getId()).build();
     }
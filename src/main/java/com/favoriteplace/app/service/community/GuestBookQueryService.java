@@ -14,8 +14,13 @@ import com.favoriteplace.app.service.community.searchStrategy.SearchStrategy;
 import com.favoriteplace.app.service.community.sortStrategy.SortGuestBookByLatestStrategy;
 import com.favoriteplace.app.service.community.sortStrategy.SortGuestBookByLikedStrategy;
 import com.favoriteplace.app.service.community.sortStrategy.SortStrategy;
+import com.favoriteplace.global.catalog.CatalogCache;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
+import com.favoriteplace.global.profile.MemberProfileCache;
+import com.favoriteplace.global.profile.MemberProfileCard;
+import com.favoriteplace.global.util.FeedCursor;
 import com.favoriteplace.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -40,6 +45,9 @@ public class GuestBookQueryService {
     private final SearchGuestBookByNickname searchGuestBookByNickname;
     private final SearchGuestBookByContent searchGuestBookByContent;
     private final SecurityUtil securityUtil;
+    private final CatalogCache catalogCache;
+    private final GuestBookCardLoader guestBookCardLoader;
+    private final MemberProfileCache memberProfileCache;
 
     /**
      * 당일 실시간 인기글 5개를 보여줌
@@ -63,12 +71,14 @@ public class GuestBookQueryService {
 
     /**
      * sort에 따라 전체 정시순례 인증글들을 페이징해서 보여주는 기능
+     * cursor 가 있으면 page 대신 커서 다음 글들을 가져옴
      * @param page
      * @param size
      * @param sort
+     * @param cursor
      * @return sort에 따라 전체 정시순례 인증글들
      */
-    public List<GuestBookResponseDto.TotalGuestBookInfo> getTotalGuestBooksBySort(int page, int size, String sort) {
+    public GuestBookResponseDto.TotalGuestBookDto getTotalGuestBooksBySort(int page, int size, String sort, String cursor) {
         SortStrategy<GuestBook> sortStrategy;
         if("latest".equals(sort)){
             sortStrategy = sortGuestBookByLatestStrategy;
@@ -78,25 +88,34 @@ public class GuestBookQueryService {
         }else{
             throw new RestApiException(ErrorCode.SORT_TYPE_NOT_ALLOWED);
         }
-        List<GuestBook> guestBooks = sortStrategy.sort(page, size);
-        if(guestBooks.isEmpty()){return Collections.emptyList();}
-        return guestBooks.stream()
-                .map(GuestBookConverter::toTotalGuestBookInfo)
-                .toList();
+        List<GuestBook> guestBooks = cursor == null ? sortStrategy.sort(page, size) : sortStrategy.sortAfter(cursor, size);
+        return GuestBookResponseDto.TotalGuestBookDto.builder()
+                .page(cursor == null ? (long) page : null)
+                .size((long) size)
+                .guestBook(guestBookCardLoader.toTotalGuestBookInfos(guestBooks))
+                .nextCursor(FeedCursor.next(guestBooks, size, sortStrategy::cursorOf))
+                .build();
     }
 
     /**
      * 내가 작성한 글
      * @param page
      * @param size
+     * @param cursor
      * @return
      */
-    public List<GuestBookResponseDto.MyGuestBookInfo> getMyGuestBooks(int page, int size) {
+    public GuestBookResponseDto.MyGuestBookDto getMyGuestBooks(int page, int size, String cursor) {
         Member member = securityUtil.getUser();
-        List<GuestBook> myGuestBooks = guestBookImplRepository.findAllByMemberIdOrderByCreatedAtDesc(member.getId(), page, size);
-        if(myGuestBooks.isEmpty()){return Collections.emptyList();}
-        return myGuestBooks.stream()
-                .map(GuestBookConverter::toGuestBook).toList();
+        List<GuestBook> myGuestBooks = cursor == null
+                ? guestBookImplRepository.findAllByMemberIdOrderByCreatedAtDesc(member.getId(), page, size)
+                : guestBookImplRepository.findAllByMemberIdOrderByCreatedAtDesc(member.getId(), FeedCursor.decodeCreatedAt(cursor), size);
+        return GuestBookResponseDto.MyGuestBookDto.builder()
+                .page(cursor == null ? (long) page : null)
+                .size((long) size)
+                .myGuestBookInfo(myGuestBooks.stream().map(GuestBookConverter::toGuestBook).toList())
+                .nextCursor(FeedCursor.next(myGuestBooks, size,
+                        guestBook -> FeedCursor.ofCreatedAt(guestBook.getCreatedAt(), guestBook.getId()).encode()))
+                .build();
     }
 
     /**
@@ -108,12 +127,15 @@ public class GuestBookQueryService {
     public GuestBookResponseDto.DetailGuestBookDto getDetailGuestBookInfo(Long guestBookId, Member member) {
         GuestBook guestBook = guestBookImplRepository.findOneById(guestBookId);
         if(guestBook == null){throw new RestApiException(ErrorCode.GUESTBOOK_NOT_FOUND);}
-        Long completeNumber = getCompletePilgrimageCount(member, guestBook.getPilgrimage().getRally().getId());
-        GuestBookResponseDto.PilgrimageInfo pilgrimageInfo = GuestBookConverter.toPilgrimageInfo(guestBook.getPilgrimage(), completeNumber);
+        CatalogSnapshot.PilgrimageEntry pilgrimage = catalogCache.getPilgrimage(guestBook.getPilgrimage().getId());
+        CatalogSnapshot.RallyEntry rally = catalogCache.getRally(pilgrimage.getRallyId());
+        Long completeNumber = getCompletePilgrimageCount(member, rally.getId());
+        GuestBookResponseDto.PilgrimageInfo pilgrimageInfo = GuestBookConverter.toPilgrimageInfo(pilgrimage, rally, completeNumber);
+        MemberProfileCard writer = memberProfileCache.get(guestBook.getMember().getId());
         if(member == null){
-            return GuestBookConverter.toDetailGuestBookInfo(guestBook, false, false, pilgrimageInfo);
+            return GuestBookConverter.toDetailGuestBookInfo(guestBook, writer, false, false, pilgrimageInfo);
         }
-        return GuestBookConverter.toDetailGuestBookInfo(guestBook, isLiked(guestBook.getId(), member.getId()),
+        return GuestBookConverter.toDetailGuestBookInfo(guestBook, writer, isLiked(guestBook.getId(), member.getId()),
                 isWriter(guestBook, member.getId()), pilgrimageInfo);
     }
 
@@ -126,7 +148,8 @@ public class GuestBookQueryService {
     public long getCompletePilgrimageCount(Member member, Long rallyId){
         if(member == null){return 0L;}
         Long memberId = member.getId();
-        List<Long> pilgrimageIds = pilgrimageRepository.findByRallyId(rallyId).stream().map(Pilgrimage::getId).toList();
+        List<Long> pilgrimageIds = catalogCache.get().getPilgrimagesByRally(rallyId).stream()
+                .map(CatalogSnapshot.PilgrimageEntry::getId).toList();
         return visitedPilgrimageRepository.countByMemberIdAndPilgrimageIdIn(memberId, pilgrimageIds);
     }
 
@@ -152,9 +175,7 @@ public class GuestBookQueryService {
         }
         if(keyword.trim().isEmpty()){return Collections.emptyList();}
         List<GuestBook> guestBooks = searchStrategy.search(keyword, page, size);
-        if(guestBooks.isEmpty()){return Collections.emptyList();}
-        return guestBooks.stream()
-                .map(GuestBookConverter::toTotalGuestBookInfo).toList();
+        return guestBookCardLoader.toTotalGuestBookInfos(guestBooks);
     }
 
     /**
@@ -17,6 +17,9 @@ import com.favoriteplace.app.service.community.sortStrategy.SortPostByLikedStrat
 import com.favoriteplace.app.service.community.sortStrategy.SortStrategy;
 import com.favoriteplace.global.exception.ErrorCode;
 import com.favoriteplace.global.exception.RestApiException;
+import com.favoriteplace.global.profile.MemberProfileCache;
+import com.favoriteplace.global.profile.MemberProfileCard;
+import com.favoriteplace.global.util.FeedCursor;
 import com.favoriteplace.global.util.SecurityUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +30,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -41,16 +44,19 @@ public class PostQueryService {
     private final SearchPostByNickname searchPostByNickname;
     private final SearchPostByContent searchPostByContent;
     private final SecurityUtil securityUtil;
+    private final MemberProfileCache memberProfileCache;
 
     /**
      * 자유게시글 전체 글들을 페이징해서 가져오기
+     * cursor 가 있으면 page 대신 커서 다음 글들을 가져옴
      *
      * @param page
      * @param size
      * @param sort
+     * @param cursor
      * @return
      */
-    public List<PostResponseDto.MyPost> getTotalPostBySort(int page, int size, String sort) {
+    public PostResponseDto.MyPostResponseDto getTotalPostBySort(int page, int size, String sort, String cursor) {
         SortStrategy<Post> sortStrategy;
         if ("latest".equals(sort)) {
             sortStrategy = sortPostByLatestStrategy;
@@ -59,11 +65,8 @@ public class PostQueryService {
         } else {
             throw new RestApiException(ErrorCode.SORT_TYPE_NOT_ALLOWED);
         }
-        List<Post> sortedPosts = sortStrategy.sort(page, size);
-        if (sortedPosts.isEmpty()) {return Collections.emptyList();}
-        return sortedPosts.stream()
-                .map(PostConverter::toMyPost)
-                .collect(Collectors.toList());
+        List<Post> sortedPosts = cursor == null ? sortStrategy.sort(page, size) : sortStrategy.sortAfter(cursor, size);
+        return toMyPostResponseDto(sortedPosts, page, size, cursor, sortStrategy::cursorOf);
     }
 
     /**
@@ -99,14 +102,15 @@ public class PostQueryService {
      *
      * @param page
      * @param size
+     * @param cursor
      * @return
      */
-    public List<PostResponseDto.MyPost> getMyPosts(Member member, int page, int size) {
-        List<Post> postPage = postImplRepository.findAllByMemberIdOrderByCreatedAtDesc(member.getId(), page, size);
-        if (postPage.isEmpty()) {return Collections.emptyList();}
-        return postPage.stream()
-                .map(PostConverter::toMyPost)
-                .toList();
+    public PostResponseDto.MyPostResponseDto getMyPosts(Member member, int page, int size, String cursor) {
+        List<Post> postPage = cursor == null
+                ? postImplRepository.findAllByMemberIdOrderByCreatedAtDesc(member.getId(), page, size)
+                : postImplRepository.findAllByMemberIdOrderByCreatedAtDesc(member.getId(), FeedCursor.decodeCreatedAt(cursor), size);
+        return toMyPostResponseDto(postPage, page, size, cursor,
+                post -> FeedCursor.ofCreatedAt(post.getCreatedAt(), post.getId()).encode());
     }
 
     /**
@@ -139,11 +143,12 @@ public class PostQueryService {
     public PostResponseDto.PostDetailResponseDto getPostDetail(Long postId, HttpServletRequest request) {
         Post post = postImplRepository.findOneById(postId);
         if (post == null) {throw new RestApiException(ErrorCode.POST_NOT_FOUND);}
+        MemberProfileCard writer = memberProfileCache.get(post.getMember().getId());
         if (!securityUtil.isTokenExists(request)) {
-            return PostConverter.toPostDetailResponse(post, false, false);
+            return PostConverter.toPostDetailResponse(post, writer, false, false);
         }
         Long memberId = securityUtil.getUserFromHeader(request).getId();
-        return PostConverter.toPostDetailResponse(post, isLiked(postId, memberId), isWriter(post, memberId));
+        return PostConverter.toPostDetailResponse(post, writer, isLiked(postId, memberId), isWriter(post, memberId));
     }
 
     /**
@@ -166,4 +171,15 @@ public class PostQueryService {
         return likedPostRepository.existsByPostIdAndMemberId(postId, memberId);
     }
 
-}
\ No newline at end of file
+    // 커서로 조회한 경우 page 는 의미가 없으므로 null
+    private PostResponseDto.MyPostResponseDto toMyPostResponseDto(List<Post> posts, int page, int size, String cursor,
+                                                                  Function<Post, String> cursorOf) {
+        return PostResponseDto.MyPostResponseDto.builder()
+                .page(cursor == null ? (long) page : null)
+                .size((long) size)
+                .post(posts.stream().map(PostConverter::toMyPost).toList())
+                .nextCursor(FeedCursor.next(posts, size, cursorOf))
+                .build();
+    }
+
+}
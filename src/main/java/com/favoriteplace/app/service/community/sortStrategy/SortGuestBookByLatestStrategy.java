@@ -3,6 +3,7 @@ package com.favoriteplace.app.service.community.sortStrategy;
 import com.favoriteplace.app.domain.community.GuestBook;
 import com.favoriteplace.app.repository.GuestBookImplRepository;
 import com.favoriteplace.app.repository.GuestBookRepository;
+import com.favoriteplace.global.util.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,4 +17,14 @@ public class SortGuestBookByLatestStrategy implements SortStrategy<GuestBook> {
     public List<GuestBook> sort(int page, int size) {
         return guestBookImplRepository.findAllByOrderByCreatedAtDesc(page, size);
     }
+
+    @Override
+    public List<GuestBook> sortAfter(String cursor, int size) {
+        return guestBookImplRepository.findAllByOrderByCreatedAtDesc(FeedCursor.decodeCreatedAt(cursor), size);
+    }
+
+    @Override
+    public String cursorOf(GuestBook guestBook) {
+        return FeedCursor.ofCreatedAt(guestBook.getCreatedAt(), guestBook.getId()).encode();
+    }
 }
@@ -3,6 +3,7 @@ package com.favoriteplace.app.service.community.sortStrategy;
 import com.favoriteplace.app.domain.community.GuestBook;
 import com.favoriteplace.app.repository.GuestBookImplRepository;
 import com.favoriteplace.app.repository.GuestBookRepository;
+import com.favoriteplace.global.util.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -17,4 +18,14 @@ public class SortGuestBookByLikedStrategy implements SortStrategy<GuestBook> {
     public List<GuestBook> sort(int page, int size) {
         return guestBookImplRepository.findAllByOrderByLikeCountDesc(page, size);
     }
+
+    @Override
+    public List<GuestBook> sortAfter(String cursor, int size) {
+        return guestBookImplRepository.findAllByOrderByLikeCountDesc(FeedCursor.decodeLikeCount(cursor), size);
+    }
+
+    @Override
+    public String cursorOf(GuestBook guestBook) {
+        return FeedCursor.ofLikeCount(guestBook.getLikeCount(), guestBook.getId()).encode();
+    }
 }
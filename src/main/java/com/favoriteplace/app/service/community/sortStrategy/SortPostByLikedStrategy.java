@@ -2,6 +2,7 @@ package com.favoriteplace.app.service.community.sortStrategy;
 
 import com.favoriteplace.app.domain.community.Post;
 import com.favoriteplace.app.repository.PostImplRepository;
+import com.favoriteplace.global.util.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,4 +16,14 @@ public class SortPostByLikedStrategy implements SortStrategy<Post>{
     public List<Post> sort(int page, int size) {
         return postImplRepository.findAllByOrderByLikeCountDesc(page, size);
     }
+
+    @Override
+    public List<Post> sortAfter(String cursor, int size) {
+        return postImplRepository.findAllByOrderByLikeCountDesc(FeedCursor.decodeLikeCount(cursor), size);
+    }
+
+    @Override
+    public String cursorOf(Post post) {
+        return FeedCursor.ofLikeCount(post.getLikeCount(), post.getId()).encode();
+    }
 }
@@ -4,4 +4,9 @@ import java.util.List;
 
 public interface SortStrategy<T> {
     List<T> sort(int page, int size);
+
+    // 커서(마지막으로 받은 글) 다음부터 size 개
+    List<T> sortAfter(String cursor, int size);
+
+    String cursorOf(T item);
 }
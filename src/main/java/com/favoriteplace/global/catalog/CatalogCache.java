@@ -0,0 +1,130 @@
+package com.favoriteplace.global.catalog;
+
+import com.favoriteplace.app.repository.AddressRepository;
+import com.favoriteplace.app.repository.PilgrimageRepository;
+import com.favoriteplace.app.repository.RallyRepository;
+import com.favoriteplace.global.exception.ErrorCode;
+import com.favoriteplace.global.exception.RestApiException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 카탈로그 스냅샷 보관소
+ * - 일정 시간마다 스케줄러 스레드에서 새 스냅샷으로 교체 (교체 전까지는 기존 스냅샷 사용)
+ * - 관리자가 DB를 직접 수정했다면 refresh()로 즉시 교체 (인스턴스마다 호출, CatalogEndpoint 참고)
+ * - 스냅샷에 없는 ID를 조회하면 새로 추가된 데이터일 수 있으므로 일정 간격 이내에서 한 번 다시 적재
+ * - CatalogRefreshedEvent 는 새 스냅샷을 설치한 뒤에 발행하므로 리스너에서 get()을 호출해도 됨
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+    private final RallyRepository rallyRepository;
+    private final PilgrimageRepository pilgrimageRepository;
+    private final AddressRepository addressRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final Object loadLock = new Object();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong lastMissReloadAt = new AtomicLong();
+
+    @Value("${catalog.miss-reload-interval-ms:10000}")
+    private long missReloadIntervalMillis;
+
+    public CatalogCache(RallyRepository rallyRepository,
+                        PilgrimageRepository pilgrimageRepository,
+                        AddressRepository addressRepository,
+                        ApplicationEventPublisher eventPublisher) {
+        this.rallyRepository = rallyRepository;
+        this.pilgrimageRepository = pilgrimageRepository;
+        this.addressRepository = addressRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public CatalogSnapshot get() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot != null)
+            return snapshot;
+        // 첫 조회: 동시에 들어와도 한 번만 적재
+        synchronized (loadLock) {
+            snapshot = current.get();
+            if (snapshot != null)
+                return snapshot;
+            snapshot = load();
+            current.set(snapshot);
+        }
+        publish(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * DB에서 다시 적재해서 즉시 교체
+     * 관리자가 랠리/성지순례/주소/이미지를 추가·수정했을 때 호출
+     */
+    public CatalogSnapshot refresh() {
+        CatalogSnapshot snapshot;
+        synchronized (loadLock) {
+            snapshot = load();
+            current.set(snapshot);
+        }
+        publish(snapshot);
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.refresh-minutes:10}", initialDelayString = "${catalog.refresh-minutes:10}",
+            timeUnit = TimeUnit.MINUTES)
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    public CatalogSnapshot.RallyEntry getRally(Long rallyId) {
+        return find(snapshot -> snapshot.findRally(rallyId))
+                .orElseThrow(() -> new RestApiException(ErrorCode.RALLY_NOT_FOUND));
+    }
+
+    public CatalogSnapshot.PilgrimageEntry getPilgrimage(Long pilgrimageId) {
+        return find(snapshot -> snapshot.findPilgrimage(pilgrimageId))
+                .orElseThrow(() -> new RestApiException(ErrorCode.PILGRIMAGE_NOT_FOUND));
+    }
+
+    public CatalogSnapshot.AddressEntry getAddress(Long addressId) {
+        return find(snapshot -> snapshot.findAddress(addressId))
+                .orElseThrow(() -> new RestApiException(ErrorCode.ADDRESS_NOT_FOUND));
+    }
+
+    private <T> Optional<T> find(Function<CatalogSnapshot, Optional<T>> finder) {
+        Optional<T> found = finder.apply(get());
+        if (found.isPresent())
+            return found;
+        // 잘못된 ID로 반복 요청해도 DB를 계속 읽지 않도록 간격 제한
+        long now = System.currentTimeMillis();
+        long last = lastMissReloadAt.get();
+        if (now - last < missReloadIntervalMillis || !lastMissReloadAt.compareAndSet(last, now))
+            return found;
+        return finder.apply(refresh());
+    }
+
+    private CatalogSnapshot load() {
+        CatalogSnapshot snapshot = new CatalogSnapshot(version.incrementAndGet(),
+                rallyRepository.findAllWithImage(),
+                pilgrimageRepository.findAllWithImages(),
+                addressRepository.findAll());
+        log.info("catalog snapshot loaded: version=" + snapshot.getVersion()
+                + ", rallies=" + snapshot.getRallies().size()
+                + ", pilgrimages=" + snapshot.getPilgrimageById().size());
+        return snapshot;
+    }
+
+    // 잠금 밖에서 발행하므로 두 번의 교체가 겹치면 이벤트 순서가 바뀔 수 있음 (리스너는 버전으로 비교)
+    private void publish(CatalogSnapshot snapshot) {
+        eventPublisher.publishEvent(new CatalogRefreshedEvent(snapshot.getVersion(), snapshot));
+    }
+}
@@ -0,0 +1,38 @@
+package com.favoriteplace.global.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 관리자가 DB에 직접 쓴 카탈로그 변경을 바로 반영하기 위한 actuator 엔드포인트 (POST /actuator/catalog)
+ * 기본으로는 노출되지 않으므로 management.endpoints.web.exposure.include 에 catalog 를 추가해서 사용
+ */
+@Component
+@Endpoint(id = "catalog")
+@RequiredArgsConstructor
+public class CatalogEndpoint {
+    private final CatalogCache catalogCache;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return describe(catalogCache.get());
+    }
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        return describe(catalogCache.refresh());
+    }
+
+    private Map<String, Object> describe(CatalogSnapshot snapshot) {
+        return Map.of(
+                "version", snapshot.getVersion(),
+                "loadedAt", snapshot.getLoadedAt().toString(),
+                "rallies", snapshot.getRallies().size(),
+                "pilgrimages", snapshot.getPilgrimageById().size());
+    }
+}
@@ -0,0 +1,15 @@
+package com.favoriteplace.global.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카탈로그 스냅샷이 새로 적재되었음을 알리는 이벤트 (카탈로그 기반 캐시 비우기/다시 만들기용)
+ * 새 스냅샷을 설치한 뒤에 발행됨, 이벤트 순서는 보장되지 않으므로 리스너는 버전이 더 새로울 때만 반영
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogRefreshedEvent {
+    private final long version;
+    private final CatalogSnapshot snapshot;
+}
@@ -0,0 +1,71 @@
+package com.favoriteplace.global.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 랠리 이름(한국어/영어/일본어)과 지역(state/district) 검색용 n-gram 색인
+ * 카탈로그 스냅샷이 새로 적재될 때마다 다시 만듦
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSearchIndex {
+    private final CatalogCache catalogCache;
+    private volatile Indexes indexes;
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        rebuild(event.getSnapshot());
+    }
+
+    /**
+     * 랠리 검색 (이름/별칭 접두어 > 포함 > 오타 허용 순)
+     */
+    public List<CatalogSnapshot.RallyEntry> searchRallies(String value) {
+        return current().rallies.search(value);
+    }
+
+    /**
+     * 지역 검색 (state, district, "state district")
+     */
+    public List<CatalogSnapshot.AddressEntry> searchAddresses(String value) {
+        return current().addresses.search(value);
+    }
+
+    // 색인이 없거나 카탈로그보다 뒤처져 있으면 다시 만듦
+    private Indexes current() {
+        CatalogSnapshot catalog = catalogCache.get();
+        Indexes current = indexes;
+        if (current == null || catalog.getVersion() > current.version) {
+            rebuild(catalog);
+            current = indexes;
+        }
+        return current;
+    }
+
+    private synchronized void rebuild(CatalogSnapshot snapshot) {
+        // 늦게 도착한 이전 버전 스냅샷으로 되돌리지 않음
+        if (indexes != null && snapshot.getVersion() <= indexes.version)
+            return;
+        indexes = new Indexes(snapshot);
+    }
+
+    private static final class Indexes {
+        private final long version;
+        private final NgramIndex<CatalogSnapshot.RallyEntry> rallies;
+        private final NgramIndex<CatalogSnapshot.AddressEntry> addresses;
+
+        private Indexes(CatalogSnapshot snapshot) {
+            this.version = snapshot.getVersion();
+            this.rallies = new NgramIndex<>(snapshot.getRallies(),
+                    rally -> Arrays.asList(rally.getName(), rally.getNameEn(), rally.getNameJp()));
+            this.addresses = new NgramIndex<>(snapshot.getAddresses(),
+                    address -> Arrays.asList(address.getState(), address.getDistrict(),
+                            address.getState() + " " + address.getDistrict()));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.favoriteplace.global.catalog;
+
+import com.favoriteplace.app.domain.travel.Address;
+import com.favoriteplace.app.domain.travel.Pilgrimage;
+import com.favoriteplace.app.domain.travel.Rally;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 랠리/성지순례/주소/이미지 카탈로그의 불변 스냅샷
+ * 관리자가 데이터를 추가할 때만 바뀌므로 통째로 만들어 교체하고, 요청에서는 힙에서 바로 읽음
+ */
+@Getter
+public class CatalogSnapshot {
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final List<RallyEntry> rallies;     //생성일 순
+    private final List<AddressEntry> addresses;
+    private final Map<Long, RallyEntry> rallyById;
+    private final Map<Long, PilgrimageEntry> pilgrimageById;
+    private final Map<Long, AddressEntry> addressById;
+    private final Map<Long, List<PilgrimageEntry>> pilgrimagesByRally;
+    private final Map<Long, List<PilgrimageEntry>> pilgrimagesByAddress;
+
+    CatalogSnapshot(long version, List<Rally> rallies, List<Pilgrimage> pilgrimages, List<Address> addresses) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.rallies = rallies.stream().map(RallyEntry::new).toList();
+        this.addresses = addresses.stream().map(AddressEntry::new).toList();
+        this.rallyById = Collections.unmodifiableMap(this.rallies.stream()
+                .collect(Collectors.toMap(RallyEntry::getId, rally -> rally, (a, b) -> a, LinkedHashMap::new)));
+        this.addressById = Collections.unmodifiableMap(this.addresses.stream()
+                .collect(Collectors.toMap(AddressEntry::getId, address -> address, (a, b) -> a, LinkedHashMap::new)));
+
+        List<PilgrimageEntry> pilgrimageEntries = pilgrimages.stream().map(PilgrimageEntry::new).toList();
+        this.pilgrimageById = Collections.unmodifiableMap(pilgrimageEntries.stream()
+                .collect(Collectors.toMap(PilgrimageEntry::getId, pilgrimage -> pilgrimage, (a, b) -> a, LinkedHashMap::new)));
+        this.pilgrimagesByRally = groupBy(pilgrimageEntries, true);
+        this.pilgrimagesByAddress = groupBy(pilgrimageEntries, false);
+    }
+
+    public Optional<RallyEntry> findRally(Long rallyId) {
+        return Optional.ofNullable(rallyById.get(rallyId));
+    }
+
+    public Optional<PilgrimageEntry> findPilgrimage(Long pilgrimageId) {
+        return Optional.ofNullable(pilgrimageById.get(pilgrimageId));
+    }
+
+    public Optional<AddressEntry> findAddress(Long addressId) {
+        return Optional.ofNullable(addressById.get(addressId));
+    }
+
+    public List<PilgrimageEntry> getPilgrimagesByRally(Long rallyId) {
+        return pilgrimagesByRally.getOrDefault(rallyId, List.of());
+    }
+
+    public List<PilgrimageEntry> getPilgrimagesByAddress(Long addressId) {
+        return pilgrimagesByAddress.getOrDefault(addressId, List.of());
+    }
+
+    private static Map<Long, List<PilgrimageEntry>> groupBy(List<PilgrimageEntry> pilgrimages, boolean byRally) {
+        Map<Long, List<PilgrimageEntry>> grouped = pilgrimages.stream()
+                .collect(Collectors.groupingBy(
+                        pilgrimage -> byRally ? pilgrimage.getRallyId() : pilgrimage.getAddressId(),
+                        LinkedHashMap::new,
+                        Collectors.toUnmodifiableList()));
+        return Collections.unmodifiableMap(grouped);
+    }
+
+    @Getter
+    public static class RallyEntry {
+        private final Long id;
+        private final String name;
+        private final String nameEn;
+        private final String nameJp;
+        private final String description;
+        private final Long pilgrimageNumber;
+        private final String imageUrl;
+        private final LocalDateTime createdAt;
+
+        private RallyEntry(Rally rally) {
+            this.id = rally.getId();
+            this.name = rally.getName();
+            this.nameEn = rally.getNameEn();
+            this.nameJp = rally.getNameJp();
+            this.description = rally.getDescription();
+            this.pilgrimageNumber = rally.getPilgrimageNumber();
+            this.imageUrl = rally.getImage().getUrl();
+            this.createdAt = rally.getCreatedAt();
+        }
+    }
+
+    @Getter
+    public static class PilgrimageEntry {
+        private final Long id;
+        private final Long rallyId;
+        private final Long addressId;
+        private final String rallyName;
+        private final String detailAddress;
+        private final String detailAddressEn;
+        private final String detailAddressJp;
+        private final Double latitude;
+        private final Double longitude;
+        private final double certifyRadius;
+        private final String virtualImageUrl;
+        private final String realImageUrl;
+
+        private PilgrimageEntry(Pilgrimage pilgrimage) {
+            this.id = pilgrimage.getId();
+            this.rallyId = pilgrimage.getRally().getId();
+            this.addressId = pilgrimage.getAddress().getId();
+            this.rallyName = pilgrimage.getRallyName();
+            this.detailAddress = pilgrimage.getDetailAddress();
+            this.detailAddressEn = pilgrimage.getDetailAddressEn();
+            this.detailAddressJp = pilgrimage.getDetailAddressJp();
+            this.latitude = pilgrimage.getLatitude();
+            this.longitude = pilgrimage.getLongitude();
+            this.certifyRadius = pilgrimage.getCertifyRadiusMeter();
+            this.virtualImageUrl = pilgrimage.getVirtualImage().getUrl();
+            this.realImageUrl = pilgrimage.getRealImage().getUrl();
+        }
+    }
+
+    @Getter
+    public static class AddressEntry {
+        private final Long id;
+        private final String state;
+        private final String district;
+
+        private AddressEntry(Address address) {
+            this.id = address.getId();
+            this.state = address.getState();
+            this.district = address.getDistrict();
+        }
+    }
+}
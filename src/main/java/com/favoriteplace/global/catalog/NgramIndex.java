@@ -0,0 +1,149 @@
+package com.favoriteplace.global.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 문자 n-gram(1, 2글자) 역색인
+ * - 검색어가 포함된 값(접두어 우선)을 먼저, 그 다음 글자가 조금 다른 값(오타)을 유사도 순으로 반환
+ * - 검색어의 n-gram이 등장하는 문서만 확인하므로 전체 데이터 크기와 무관하게 후보 수에 비례
+ */
+public class NgramIndex<T> {
+    // 오타 허용 기준 (검색어와 값의 2-gram Dice 유사도)
+    private static final double MIN_SIMILARITY = 0.5;
+    // 오타 허용은 2-gram이 이 개수 이상인 검색어에만 적용
+    private static final int MIN_FUZZY_GRAMS = 2;
+
+    private final List<T> documents = new ArrayList<>();
+    private final List<List<String>> termsByDocument = new ArrayList<>();
+    private final Map<String, List<Integer>> postings = new HashMap<>();
+
+    /**
+     * @param documents 색인할 값
+     * @param termsExtractor 값마다 검색 대상 문자열 (이름, 별칭 등), null은 무시
+     */
+    public NgramIndex(List<T> documents, Function<T, List<String>> termsExtractor) {
+        for (T document : documents) {
+            int index = this.documents.size();
+            List<String> terms = termsExtractor.apply(document).stream()
+                    .filter(term -> term != null)
+                    .map(NgramIndex::normalize)
+                    .filter(term -> !term.isEmpty())
+                    .toList();
+            this.documents.add(document);
+            this.termsByDocument.add(terms);
+
+            Set<String> grams = new HashSet<>();
+            for (String term : terms) {
+                grams.addAll(unigrams(term));
+                grams.addAll(bigrams(term));
+            }
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(index);
+            }
+        }
+    }
+
+    public List<T> search(String query) {
+        String normalized = normalize(query == null ? "" : query);
+        if (normalized.isEmpty())
+            return List.of();
+
+        Set<String> queryGrams = normalized.length() == 1 ? unigrams(normalized) : bigrams(normalized);
+        boolean fuzzy = queryGrams.size() >= MIN_FUZZY_GRAMS;
+
+        // 후보 문서별로 겹치는 n-gram 수 집계
+        Map<Integer, Integer> hits = new HashMap<>();
+        for (String gram : queryGrams) {
+            for (Integer index : postings.getOrDefault(gram, List.of())) {
+                hits.merge(index, 1, Integer::sum);
+            }
+        }
+
+        List<Match<T>> matches = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> hit : hits.entrySet()) {
+            // 모든 n-gram이 겹치지 않으면 포함 관계일 수 없고,
+            // Dice 유사도가 기준 이상이려면 적어도 (기준 / 2) * 검색어 n-gram 수 만큼은 겹쳐야 함
+            if (hit.getValue() < queryGrams.size() && (!fuzzy || hit.getValue() < queryGrams.size() * MIN_SIMILARITY / 2))
+                continue;
+            double score = score(normalized, queryGrams, fuzzy, termsByDocument.get(hit.getKey()));
+            if (score > 0)
+                matches.add(new Match<>(hit.getKey(), documents.get(hit.getKey()), score));
+        }
+        matches.sort(Comparator.comparingDouble((Match<T> match) -> match.score).reversed()
+                .thenComparingInt(match -> match.index));
+        return matches.stream().map(match -> match.document).toList();
+    }
+
+    /**
+     * 접두어 일치 3, 포함 2, 오타 허용 (0, 1]
+     */
+    private static double score(String query, Set<String> queryGrams, boolean fuzzy, List<String> terms) {
+        double best = 0;
+        for (String term : terms) {
+            if (term.startsWith(query))
+                return 3;
+            if (term.contains(query)) {
+                best = Math.max(best, 2);
+            } else if (fuzzy) {
+                double similarity = dice(queryGrams, bigrams(term));
+                if (similarity >= MIN_SIMILARITY)
+                    best = Math.max(best, similarity);
+            }
+        }
+        return best;
+    }
+
+    private static double dice(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty())
+            return 0;
+        int shared = 0;
+        for (String gram : a) {
+            if (b.contains(gram))
+                shared++;
+        }
+        return 2.0 * shared / (a.size() + b.size());
+    }
+
+    // 전각/반각, 대소문자, 공백 차이 무시
+    static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "");
+    }
+
+    private static Set<String> unigrams(String term) {
+        Set<String> grams = new HashSet<>();
+        term.codePoints().forEach(codePoint -> grams.add(new String(Character.toChars(codePoint))));
+        return grams;
+    }
+
+    private static Set<String> bigrams(String term) {
+        Set<String> grams = new HashSet<>();
+        int[] codePoints = term.codePoints().toArray();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private static final class Match<T> {
+        private final int index;
+        private final T document;
+        private final double score;
+
+        private Match(int index, T document, double score) {
+            this.index = index;
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.favoriteplace.global.catalog;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문과 ETag
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class PrecomputedJson {
+    private final byte[] body;
+    private final String etag;
+}
@@ -0,0 +1,139 @@
+package com.favoriteplace.global.catalog;
+
+import com.favoriteplace.app.converter.PilgrimageConverter;
+import com.favoriteplace.app.dto.travel.PilgrimageDto;
+import com.favoriteplace.global.exception.ErrorCode;
+import com.favoriteplace.global.exception.RestApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 지역(state) -> 구역(district) -> 성지순례 카테고리 트리
+ * 카탈로그가 적재될 때마다 다시 만들고, 응답 JSON과 ETag(본문 MD5)도 미리 만들어 둠
+ * 내용이 같으면 ETag도 같으므로 클라이언트 캐시는 그대로 유효
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionCategoryTree {
+    private final CatalogCache catalogCache;
+    private final ObjectMapper objectMapper;
+    private volatile Tree tree;
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        rebuild(event.getSnapshot());
+    }
+
+    /**
+     * 전체 지역 카테고리 (지역명 순)
+     */
+    public PrecomputedJson getRegions() {
+        return current().regions;
+    }
+
+    /**
+     * 구역(주소)별 성지순례 목록
+     * @param addressId 주소 ID
+     */
+    public PrecomputedJson getDistrict(Long addressId) {
+        PrecomputedJson district = current().districts.get(addressId);
+        if (district != null)
+            return district;
+        // 새로 추가된 주소라면 카탈로그를 다시 적재하면서 트리도 다시 만들어짐, 없는 주소라면 ADDRESS_NOT_FOUND
+        catalogCache.getAddress(addressId);
+        district = current().districts.get(addressId);
+        if (district == null)
+            throw new RestApiException(ErrorCode.ADDRESS_NOT_FOUND);
+        return district;
+    }
+
+    // 트리가 없거나 카탈로그보다 뒤처져 있으면 다시 만듦
+    private Tree current() {
+        CatalogSnapshot catalog = catalogCache.get();
+        Tree current = tree;
+        if (current == null || catalog.getVersion() > current.version) {
+            rebuild(catalog);
+            current = tree;
+        }
+        return current;
+    }
+
+    private synchronized void rebuild(CatalogSnapshot snapshot) {
+        // 늦게 도착한 이전 버전 스냅샷으로 되돌리지 않음
+        if (tree != null && snapshot.getVersion() <= tree.version)
+            return;
+        Tree rebuilt = build(snapshot);
+        if (!rebuilt.hasSameEtags(tree))
+            log.info("region category tree changed: catalog version=" + snapshot.getVersion());
+        tree = rebuilt;
+    }
+
+    private Tree build(CatalogSnapshot snapshot) {
+        // 지역명 순, 같은 지역 안에서는 주소 ID 순 (응답이 같으면 ETag도 같도록 순서 고정)
+        Map<String, List<PilgrimageDto.PilgrimageAddressDetailDto>> districtsByState = snapshot.getAddresses().stream()
+                .collect(Collectors.groupingBy(CatalogSnapshot.AddressEntry::getState, TreeMap::new,
+                        Collectors.mapping(PilgrimageConverter::toPilgrimageAddressDetailDto, Collectors.toList())));
+        List<PilgrimageDto.PilgrimageCategoryRegionDto> regions = districtsByState.entrySet().stream()
+                .map(entry -> PilgrimageConverter.toPilgrimageCategoryRegionDto(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        Map<Long, PrecomputedJson> districts = new HashMap<>();
+        for (CatalogSnapshot.AddressEntry address : snapshot.getAddresses()) {
+            List<PilgrimageDto.PilgrimageCategoryRegionDetailDto> pilgrimages = snapshot.getPilgrimagesByAddress(address.getId())
+                    .stream()
+                    .map(pilgrimage -> PilgrimageConverter.toPilgrimageCategoryRegionDetailDto(
+                            rallyName(snapshot, pilgrimage), pilgrimage))
+                    .collect(Collectors.toList());
+            districts.put(address.getId(), toJson(pilgrimages));
+        }
+        return new Tree(snapshot.getVersion(), toJson(regions), Collections.unmodifiableMap(districts));
+    }
+
+    private String rallyName(CatalogSnapshot snapshot, CatalogSnapshot.PilgrimageEntry pilgrimage) {
+        return snapshot.findRally(pilgrimage.getRallyId())
+                .map(CatalogSnapshot.RallyEntry::getName)
+                .orElse(pilgrimage.getRallyName());
+    }
+
+    private PrecomputedJson toJson(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new PrecomputedJson(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("region category serialize failed", e);
+        }
+    }
+
+    private static final class Tree {
+        private final long version;
+        private final PrecomputedJson regions;
+        private final Map<Long, PrecomputedJson> districts;
+
+        private Tree(long version, PrecomputedJson regions, Map<Long, PrecomputedJson> districts) {
+            this.version = version;
+            this.regions = regions;
+            this.districts = districts;
+        }
+
+        boolean hasSameEtags(Tree other) {
+            if (other == null || !regions.getEtag().equals(other.regions.getEtag())
+                    || !districts.keySet().equals(other.districts.keySet()))
+                return false;
+            return districts.entrySet().stream()
+                    .allMatch(entry -> entry.getValue().getEtag().equals(other.districts.get(entry.getKey()).getEtag()));
+        }
+    }
+}
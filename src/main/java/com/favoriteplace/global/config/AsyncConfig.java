@@ -26,4 +26,21 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 웹소켓 위치 업데이트 중 모아둔(coalesced) 위치를 처리하는 스레드풀
+     * 큐가 가득 차면 거절하고, LocationUpdateCoalescer 가 해당 위치를 다시 대기시켜 다음 flush 에서 최신 위치로 처리
+     * (스케줄러 스레드에서 직접 처리하면 다른 @Scheduled 작업까지 밀림)
+     */
+    @Bean(name = "locationUpdateExecutor")
+    public ThreadPoolTaskExecutor locationUpdateExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int numOfCores = Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(numOfCores);
+        executor.setMaxPoolSize(numOfCores * 2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("location-update-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,31 @@
+package com.favoriteplace.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+    public static final String RALLY_MAP = "rallyMap";
+
+    /**
+     * 관리자가 데이터를 추가할 때만 바뀌는 랠리/성지순례 정보 캐시
+     * 카탈로그 스냅샷이 교체되면 CatalogRefreshedEvent 로 비우고, TTL은 메모리 정리용
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.catalog.ttl-minutes:10}") long ttlMinutes,
+                                     @Value("${cache.catalog.max-size:1000}") long maxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(RALLY_MAP);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .maximumSize(maxSize));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,23 @@
+package com.favoriteplace.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업용 스케줄러 (기본값은 스레드 1개라 모든 작업이 한 스레드를 공유함)
+     * 위치 업데이트 flush(200ms), 인증 후속 처리(500ms) 같은 짧은 주기 작업이
+     * 색인 갱신, 보정 쿼리 등 오래 걸리는 작업 뒤에서 밀리지 않도록 여러 스레드 사용
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
@@ -50,6 +50,7 @@ public enum ErrorCode {
     //커뮤니티 (7000번대)
     SORT_TYPE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, 7001, "존재하지 않는 정렬 방식입니다."),
     SEARCH_TYPE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, 7002, "존재하지 않는 검색 방식입니다."),
+    CURSOR_NOT_VALID(HttpStatus.BAD_REQUEST, 7003, "올바르지 않은 커서입니다."),
 
     // 지역 (8000번대)
     ADDRESS_NOT_FOUND(HttpStatus.BAD_REQUEST, 8001, "존재하지 않는 지역입니다."),
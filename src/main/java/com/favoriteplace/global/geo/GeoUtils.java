@@ -0,0 +1,54 @@
+package com.favoriteplace.global.geo;
+
+/**
+ * 좌표 간 거리 계산 유틸 (위치 핑마다 호출되므로 primitive 연산만 사용)
+ */
+public final class GeoUtils {
+    public static final double EARTH_RADIUS_METER = 6_371_000.0;
+    public static final double METER_PER_DEGREE = Math.PI * EARTH_RADIUS_METER / 180.0;
+    private static final double RADIAN_PER_DEGREE = Math.PI / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 기준 위도의 cos 값 (성지순례마다 미리 계산해두고 재사용)
+     */
+    public static double cosLatitude(double latitude) {
+        return Math.cos(latitude * RADIAN_PER_DEGREE);
+    }
+
+    /**
+     * 등장방형(equirectangular) 근사 거리(m), 수 km 이내에서는 하버사인과 오차가 거의 없음
+     * @param cosLat 기준 위도의 cos 값
+     */
+    public static double equirectangularMeter(double lat1, double lon1, double lat2, double lon2, double cosLat) {
+        double dLat = lat2 - lat1;
+        double dLon = (lon2 - lon1) * cosLat;
+        return Math.sqrt(dLat * dLat + dLon * dLon) * METER_PER_DEGREE;
+    }
+
+    /**
+     * 하버사인 거리(m)
+     */
+    public static double haversineMeter(double lat1, double lon1, double lat2, double lon2) {
+        double sinDLat = Math.sin((lat2 - lat1) * RADIAN_PER_DEGREE / 2);
+        double sinDLon = Math.sin((lon2 - lon1) * RADIAN_PER_DEGREE / 2);
+        double a = sinDLat * sinDLat
+                + Math.cos(lat1 * RADIAN_PER_DEGREE) * Math.cos(lat2 * RADIAN_PER_DEGREE) * sinDLon * sinDLon;
+        return 2 * EARTH_RADIUS_METER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 사용자 좌표가 기준 좌표 반경 안에 있는지 확인 (제곱 거리 비교로 sqrt 생략)
+     * @param cosCenterLat 기준 위도의 cos 값
+     * @param radiusMeter 반경(m)
+     */
+    public static boolean isWithin(double latitude, double longitude,
+                                   double centerLatitude, double centerLongitude, double cosCenterLat,
+                                   double radiusMeter) {
+        double dLat = (latitude - centerLatitude) * METER_PER_DEGREE;
+        double dLon = (longitude - centerLongitude) * cosCenterLat * METER_PER_DEGREE;
+        return dLat * dLat + dLon * dLon <= radiusMeter * radiusMeter;
+    }
+}
@@ -0,0 +1,263 @@
+package com.favoriteplace.global.geo;
+
+import com.favoriteplace.app.domain.travel.Pilgrimage;
+import com.favoriteplace.app.repository.PilgrimageRepository;
+import com.favoriteplace.global.catalog.CatalogCache;
+import com.favoriteplace.global.catalog.CatalogRefreshedEvent;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 성지순례 좌표를 격자(grid) 단위로 메모리에 올려두는 공간 인덱스
+ * 위치 핑마다 DB를 조회하지 않도록 근접 여부 확인과 주변 성지순례 검색을 담당
+ * 카탈로그 스냅샷으로 만들어서 카탈로그와 같은 시점에 갱신됨
+ */
+@Slf4j
+@Component
+public class PilgrimageSpatialIndex {
+    // 격자 한 칸의 크기 (위도 기준 약 1.1km)
+    private static final double CELL_SIZE_DEGREE = 0.01;
+    // 근사 거리로 먼저 거를 때의 여유 (근사 오차로 반경 안의 성지순례를 빠뜨리지 않도록)
+    private static final double PREFILTER_MARGIN = 1.1;
+
+    private final PilgrimageRepository pilgrimageRepository;
+    private final CatalogCache catalogCache;
+    // 스냅샷 교체(전체 재구성, 한 건 추가)는 이 락 안에서만 해서 서로의 변경을 덮어쓰지 않음
+    private final Object writeLock = new Object();
+    // DB에도 없던 ID는 잠시 기억해서 위치 핑마다 다시 조회하지 않음 (재구성 시 초기화)
+    private final Cache<Long, Boolean> misses;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public PilgrimageSpatialIndex(PilgrimageRepository pilgrimageRepository,
+                                  CatalogCache catalogCache,
+                                  @Value("${pilgrimage.geo-index.miss-ttl-ms:60000}") long missTtlMillis) {
+        this.pilgrimageRepository = pilgrimageRepository;
+        this.catalogCache = catalogCache;
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(missTtlMillis))
+                .build();
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        rebuild(event.getSnapshot());
+    }
+
+    private void rebuild(CatalogSnapshot catalog) {
+        synchronized (writeLock) {
+            // 늦게 도착한 이전 버전 스냅샷으로 되돌리지 않음
+            if (catalog.getVersion() <= snapshot.version) {
+                return;
+            }
+            List<Point> points = catalog.getPilgrimageById().values().stream()
+                    .filter(pilgrimage -> pilgrimage.getLatitude() != null && pilgrimage.getLongitude() != null)
+                    .map(Point::of)
+                    .toList();
+            this.snapshot = Snapshot.of(catalog.getVersion(), points);
+            misses.invalidateAll();
+            log.info("pilgrimage spatial index rebuilt. version=" + catalog.getVersion() + ", size=" + points.size());
+        }
+    }
+
+    // 카탈로그 조회로 주기적 갱신을 유발하고, 인덱스가 뒤처져 있으면 다시 만듦
+    private Snapshot current() {
+        CatalogSnapshot catalog = catalogCache.get();
+        if (catalog.getVersion() > snapshot.version) {
+            rebuild(catalog);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 성지순례 좌표 조회 (인덱스에 없다면 새로 추가된 성지순례일 수 있으므로 한 번 적재)
+     * @param pilgrimageId 성지순례 ID
+     * @return 좌표, 존재하지 않으면 null
+     */
+    public Point find(Long pilgrimageId) {
+        Point point = current().byId.get(pilgrimageId);
+        if (point != null || misses.getIfPresent(pilgrimageId) != null) {
+            return point;
+        }
+        synchronized (writeLock) {
+            // 락을 기다리는 동안 다른 스레드가 적재했을 수 있음
+            point = snapshot.byId.get(pilgrimageId);
+            if (point != null || misses.getIfPresent(pilgrimageId) != null) {
+                return point;
+            }
+            Point loaded = pilgrimageRepository.findLocationById(pilgrimageId)
+                    .filter(location -> location.getLatitude() != null && location.getLongitude() != null)
+                    .map(Point::of)
+                    .orElse(null);
+            if (loaded == null) {
+                misses.put(pilgrimageId, Boolean.TRUE);
+            } else {
+                this.snapshot = snapshot.with(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * 사용자 위치 반경 N미터 이내의 성지순례 목록 (가까운 순)
+     * @param latitude 사용자의 위도
+     * @param longitude 사용자의 경도
+     * @param radiusMeter 반경(m)
+     */
+    public List<Nearby> findWithin(double latitude, double longitude, double radiusMeter) {
+        Snapshot current = current();
+        double latSpan = radiusMeter / GeoUtils.METER_PER_DEGREE;
+        double cosLat = Math.max(GeoUtils.cosLatitude(latitude), 0.01);
+        double lonSpan = latSpan / cosLat;
+
+        int minLatCell = cell(latitude - latSpan);
+        int maxLatCell = cell(latitude + latSpan);
+        int minLonCell = cell(longitude - lonSpan);
+        int maxLonCell = cell(longitude + lonSpan);
+
+        List<Nearby> result = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                List<Point> bucket = current.cells.get(cellKey(latCell, lonCell));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Point point : bucket) {
+                    // 격자 안에서도 반경 밖인 성지순례는 삼각함수 없이 근사 거리로 먼저 제외
+                    if (GeoUtils.equirectangularMeter(latitude, longitude, point.latitude, point.longitude, cosLat)
+                            > radiusMeter * PREFILTER_MARGIN) {
+                        continue;
+                    }
+                    double distance = GeoUtils.haversineMeter(latitude, longitude, point.latitude, point.longitude);
+                    if (distance <= radiusMeter) {
+                        result.add(new Nearby(point, distance));
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(Nearby::getDistance));
+        return result;
+    }
+
+    public int size() {
+        return snapshot.byId.size();
+    }
+
+    private static int cell(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE_DEGREE);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    @Getter
+    public static final class Point {
+        private final long id;
+        private final String rallyName;
+        private final double latitude;
+        private final double longitude;
+        // 근접 판정 시 매번 계산하지 않도록 미리 계산한 cos(위도)
+        private final double cosLatitude;
+        private final double certifyRadius;
+
+        private Point(long id, String rallyName, double latitude, double longitude, double certifyRadius) {
+            this.id = id;
+            this.rallyName = rallyName;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cosLatitude = GeoUtils.cosLatitude(latitude);
+            this.certifyRadius = certifyRadius;
+        }
+
+        static Point of(CatalogSnapshot.PilgrimageEntry pilgrimage) {
+            return new Point(pilgrimage.getId(), pilgrimage.getRallyName(), pilgrimage.getLatitude(), pilgrimage.getLongitude(),
+                    pilgrimage.getCertifyRadius());
+        }
+
+        static Point of(PilgrimageRepository.LocationView location) {
+            double certifyRadius = location.getCertifyRadius() == null
+                    ? Pilgrimage.DEFAULT_CERTIFY_RADIUS_METER : location.getCertifyRadius();
+            return new Point(location.getId(), location.getRallyName(), location.getLatitude(), location.getLongitude(), certifyRadius);
+        }
+
+        /**
+         * 사용자 좌표가 인증 반경 안에 있는지 확인
+         */
+        public boolean contains(double latitude, double longitude) {
+            return GeoUtils.isWithin(latitude, longitude, this.latitude, this.longitude, cosLatitude, certifyRadius);
+        }
+    }
+
+    @Getter
+    public static final class Nearby {
+        private final Point point;
+        private final double distance;
+
+        private Nearby(Point point, double distance) {
+            this.point = point;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * 교체 방식으로만 갱신되는 불변 스냅샷 (읽기 시 락 없음)
+     */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, Collections.emptyMap(), Collections.emptyMap());
+
+        private final long version;  //만든 카탈로그 스냅샷 버전
+        private final Map<Long, Point> byId;
+        private final Map<Long, List<Point>> cells;
+
+        private Snapshot(long version, Map<Long, Point> byId, Map<Long, List<Point>> cells) {
+            this.version = version;
+            this.byId = byId;
+            this.cells = cells;
+        }
+
+        static Snapshot of(long version, List<Point> points) {
+            Map<Long, Point> byId = new HashMap<>();
+            Map<Long, List<Point>> cells = new HashMap<>();
+            for (Point point : points) {
+                byId.put(point.id, point);
+                cells.computeIfAbsent(cellKey(cell(point.latitude), cell(point.longitude)), key -> new ArrayList<>())
+                        .add(point);
+            }
+            return new Snapshot(version, Collections.unmodifiableMap(byId), Collections.unmodifiableMap(cells));
+        }
+
+        // 새로 추가된 성지순례 한 건만 반영 (해당 격자만 새로 만듦)
+        Snapshot with(Point point) {
+            Map<Long, Point> newById = new HashMap<>(byId);
+            Map<Long, List<Point>> newCells = new HashMap<>(cells);
+            Point previous = newById.put(point.id, point);
+            if (previous != null) {
+                newCells.computeIfPresent(cellKey(cell(previous.latitude), cell(previous.longitude)), (key, bucket) -> {
+                    List<Point> removed = new ArrayList<>(bucket);
+                    removed.removeIf(existing -> existing.id == point.id);
+                    return removed.isEmpty() ? null : removed;
+                });
+            }
+            List<Point> bucket = new ArrayList<>(newCells.getOrDefault(cellKey(cell(point.latitude), cell(point.longitude)),
+                    Collections.emptyList()));
+            bucket.add(point);
+            newCells.put(cellKey(cell(point.latitude), cell(point.longitude)), bucket);
+            return new Snapshot(version, Collections.unmodifiableMap(newById), Collections.unmodifiableMap(newCells));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.favoriteplace.global.profile;
+
+import com.favoriteplace.app.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 작성자 프로필 캐시 (사용자 id -> MemberProfileCard)
+ * 글/댓글 조회 쿼리에서 칭호, 아이콘 이미지까지 fetch join 하지 않고, 캐시에 없는 사용자만 한 번에 조회
+ * 아이템 착용 등으로 프로필이 바뀌면 커밋 후 무효화, 그 외 변경은 만료 시간 내에 반영
+ */
+@Component
+public class MemberProfileCache {
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberProfileCard> cache;
+
+    public MemberProfileCache(MemberRepository memberRepository,
+                              @Value("${member.profile-cache.max-size:10000}") long maxSize,
+                              @Value("${member.profile-cache.expire-after-write-minutes:30}") long expireMinutes) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    public MemberProfileCard get(Long memberId) {
+        return getAll(List.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 찾을 수 없는 사용자는 캐시하지 않고 [알 수 없음] 으로 채워서 반환
+     */
+    public Map<Long, MemberProfileCard> getAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, MemberProfileCard> cards = new HashMap<>(cache.getAll(memberIds, this::load));
+        for (Long memberId : memberIds) {
+            cards.computeIfAbsent(memberId, MemberProfileCard::unknown);
+        }
+        return cards;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(MemberProfileChangedEvent event) {
+        cache.invalidate(event.getMemberId());
+    }
+
+    private Map<Long, MemberProfileCard> load(Set<? extends Long> memberIds) {
+        return memberRepository.findProfileCardsByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(MemberRepository.ProfileCardView::getMemberId,
+                        view -> new MemberProfileCard(view.getMemberId(), view.getNickname(),
+                                view.getProfileImageUrl(), view.getProfileTitleUrl(), view.getProfileIconUrl())));
+    }
+}
@@ -0,0 +1,22 @@
+package com.favoriteplace.global.profile;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 글/댓글 작성자 표시용 프로필 (닉네임, 프로필 이미지, 착용 중인 칭호/아이콘 이미지)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberProfileCard {
+    private final Long memberId;
+    private final String nickname;
+    private final String profileImageUrl;
+    private final String profileTitleUrl;
+    private final String profileIconUrl;
+
+    // 탈퇴 등으로 사용자를 찾을 수 없는 경우
+    public static MemberProfileCard unknown(Long memberId) {
+        return new MemberProfileCard(memberId, "[알 수 없음]", null, null, null);
+    }
+}
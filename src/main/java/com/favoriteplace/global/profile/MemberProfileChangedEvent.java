@@ -0,0 +1,13 @@
+package com.favoriteplace.global.profile;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 프로필 변경 이벤트 (커밋 후 프로필 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberProfileChangedEvent {
+    private final Long memberId;
+}
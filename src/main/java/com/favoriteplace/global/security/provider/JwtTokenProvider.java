@@ -12,6 +12,7 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -89,9 +90,21 @@ public class JwtTokenProvider {
 
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
+        return parseValidClaims(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해서 검증과 subject(email) 추출을 함께 처리
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public String getValidSubject(String token) {
+        return parseValidClaims(token).map(Claims::getSubject).orElse(null);
+    }
+
+    // 검증에 실패하면 이유만 남기고 empty
+    private Optional<Claims> parseValidClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) {
@@ -101,7 +114,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
         }
-        return false;
+        return Optional.empty();
     }
 
     private Claims parseClaims(String accessToken) {
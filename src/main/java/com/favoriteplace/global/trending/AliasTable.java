@@ -0,0 +1,58 @@
+package com.favoriteplace.global.trending;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가중치 비례 무작위 선택용 별칭 테이블 (Vose's alias method)
+ * 만들 때 O(n), 뽑을 때 O(1)
+ */
+class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    AliasTable(double[] weights) {
+        int n = weights.length;
+        this.probability = new double[n];
+        this.alias = new int[n];
+        if (n == 0)
+            return;
+
+        double total = 0;
+        for (double weight : weights)
+            total += weight;
+
+        // 평균이 1이 되도록 맞춘 뒤 1보다 작은 칸을 큰 칸으로 채움
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = total > 0 ? weights[i] * n / total : 1.0;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        // 부동소수점 오차로 남은 칸은 항상 자기 자신
+        while (!large.isEmpty())
+            probability[large.pop()] = 1.0;
+        while (!small.isEmpty())
+            probability[small.pop()] = 1.0;
+    }
+
+    int size() {
+        return probability.length;
+    }
+
+    int next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
@@ -0,0 +1,17 @@
+package com.favoriteplace.global.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 랠리 찜/찜 취소 이벤트 (커밋 후 월간 추천 랠리 순위 반영용)
+ */
+@Getter
+@AllArgsConstructor
+public class RallyLikeChangedEvent {
+    private final Long rallyId;
+    private final LocalDateTime likedAt;  //찜한 시점 (찜 취소라면 원래 찜했던 시점)
+    private final boolean liked;
+}
@@ -0,0 +1,83 @@
+package com.favoriteplace.global.trending;
+
+import com.favoriteplace.global.catalog.CatalogCache;
+import com.favoriteplace.global.catalog.CatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 비회원 홈 화면 랠리 추천
+ * 이번 달 찜 수(+1)에 비례해 뽑되, 찜이 없는 랠리도 나올 수 있게 함
+ * 카탈로그가 바뀌거나 일정 시간이 지나면 가중치 테이블을 다시 만듦
+ * 카탈로그 적재 중에는 Redis/DB 를 조회하지 않도록, 다음 추천 요청에서 버전을 비교해 다시 만듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RallyRecommender {
+    private final CatalogCache catalogCache;
+    private final RallyTrendingLeaderboard rallyTrendingLeaderboard;
+    private volatile Table table;
+
+    @Scheduled(fixedDelayString = "${rally.recommend.refresh-interval-ms:600000}",
+            initialDelayString = "${rally.recommend.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        table = build(catalogCache.get());
+    }
+
+    /**
+     * @return 추천 랠리, 랠리가 하나도 없으면 empty
+     */
+    public Optional<CatalogSnapshot.RallyEntry> pick() {
+        Table current = current(catalogCache.get());
+        if (current.rallies.isEmpty())
+            return Optional.empty();
+        return Optional.of(current.rallies.get(current.aliasTable.next()));
+    }
+
+    private Table current(CatalogSnapshot snapshot) {
+        Table current = table;
+        if (current != null && current.version >= snapshot.getVersion())
+            return current;
+        synchronized (this) {
+            // 기다리는 동안 다른 요청이 이미 다시 만들었을 수 있음
+            current = table;
+            if (current == null || current.version < snapshot.getVersion()) {
+                current = build(snapshot);
+                table = current;
+            }
+            return current;
+        }
+    }
+
+    private Table build(CatalogSnapshot snapshot) {
+        List<CatalogSnapshot.RallyEntry> rallies = snapshot.getRallies();
+        Map<Long, Long> likeCounts = rallyTrendingLeaderboard.getTop(Math.max(rallies.size(), 1)).stream()
+                .collect(Collectors.toMap(RallyTrendingLeaderboard.TrendingRally::getRallyId,
+                        RallyTrendingLeaderboard.TrendingRally::getLikeCount));
+        double[] weights = new double[rallies.size()];
+        for (int i = 0; i < rallies.size(); i++) {
+            weights[i] = 1 + likeCounts.getOrDefault(rallies.get(i).getId(), 0L);
+        }
+        return new Table(snapshot.getVersion(), rallies, new AliasTable(weights));
+    }
+
+    private static final class Table {
+        private final long version;  //만든 카탈로그 스냅샷 버전
+        private final List<CatalogSnapshot.RallyEntry> rallies;
+        private final AliasTable aliasTable;
+
+        private Table(long version, List<CatalogSnapshot.RallyEntry> rallies, AliasTable aliasTable) {
+            this.version = version;
+            this.rallies = rallies;
+            this.aliasTable = aliasTable;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.favoriteplace.global.trending;
+
+import com.favoriteplace.app.repository.LikedRallyRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 월간 추천 랠리 순위 (Redis ZSET, 월별 키 rally:trending:{yyyyMM})
+ * - 찜/찜 취소가 커밋되면 해당 월 점수를 증감
+ * - 새로운 달의 첫 조회(또는 Redis 초기화) 시 DB 집계로 한 번 채우고, 지난 달 키는 만료로 정리
+ * - 채워지기 전이나 순위가 비어 있으면 DB 집계로 응답
+ * - 월 경계는 다른 스케줄 작업과 같이 Asia/Seoul 기준
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RallyTrendingLeaderboard {
+    private static final String KEY_PREFIX = "rally:trending:";
+    private static final String SEEDED_SUFFIX = ":seeded";
+    private static final String SEEDING_SUFFIX = ":seeding";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 지난 달 순위도 잠시 조회할 수 있도록 두 달간 유지
+    private static final Duration KEY_EXPIRATION = Duration.ofDays(62);
+    // 채우던 인스턴스가 죽어도 다른 인스턴스가 다시 채울 수 있도록 짧게 잠금
+    private static final Duration SEEDING_TIMEOUT = Duration.ofSeconds(30);
+
+    // DB 집계보다 낮은 점수만 올림 (집계 이후 커밋된 찜이 먼저 반영되어 있다면 그 점수를 유지)
+    // 모든 점수를 올린 뒤에 만료와 채움 표시를 남김
+    // KEYS[1]: 순위 키, KEYS[2]: 채움 표시 키, ARGV[1]: 만료(ms), ARGV[2..]: rallyId, 찜 수 쌍
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do " +
+            "local current = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[i]) or '0') " +
+            "if tonumber(ARGV[i + 1]) > current then " +
+            "redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) " +
+            "end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('SET', KEYS[2], '1', 'PX', ARGV[1]) " +
+            "return (#ARGV - 1) / 2", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LikedRallyRepository likedRallyRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRallyLikeChanged(RallyLikeChangedEvent event) {
+        YearMonth month = event.getLikedAt() == null ? YearMonth.now(ZONE) : YearMonth.from(event.getLikedAt());
+        String key = key(month);
+        try {
+            Double score = redisTemplate.opsForZSet().incrementScore(key, event.getRallyId().toString(),
+                    event.isLiked() ? 1 : -1);
+            if (score != null && score <= 0)
+                redisTemplate.opsForZSet().remove(key, event.getRallyId().toString());
+            redisTemplate.expire(key, KEY_EXPIRATION);
+        } catch (RuntimeException e) {
+            // 순위 반영 실패는 찜 결과에 영향을 주지 않음 (다음 달에는 DB 집계로 다시 채워짐)
+            log.warn("rally trending update failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 이번 달 찜 수 상위 랠리
+     * @param size 조회할 개수
+     * @return 찜 수 내림차순
+     */
+    public List<TrendingRally> getTop(int size) {
+        YearMonth month = YearMonth.now(ZONE);
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key(month) + SEEDED_SUFFIX)))
+                return seed(month).stream().limit(size).collect(Collectors.toList());
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(key(month), 0, size - 1);
+            if (tuples == null || tuples.isEmpty())
+                return countFromDb(month).stream().limit(size).collect(Collectors.toList());
+            return tuples.stream()
+                    .map(tuple -> new TrendingRally(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()))
+                    .collect(Collectors.toList());
+        } catch (RuntimeException e) {
+            log.warn("rally trending read failed, fallback to db: " + e.getMessage());
+            return countFromDb(month).stream().limit(size).collect(Collectors.toList());
+        }
+    }
+
+    // 잠금을 얻은 인스턴스 하나만 잠금 이후의 DB 집계로 채움 (집계 도중 들어온 증감은 SEED_SCRIPT 에서 보존)
+    // 잠금을 얻지 못했거나 실패하면 DB 집계만 돌려주고, 채움 표시가 없으므로 다음 조회에서 다시 시도
+    private List<TrendingRally> seed(YearMonth month) {
+        String seedingKey = key(month) + SEEDING_SUFFIX;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(seedingKey, "1", SEEDING_TIMEOUT)))
+            return countFromDb(month);
+        try {
+            List<TrendingRally> counts = countFromDb(month);
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(KEY_EXPIRATION.toMillis()));
+            for (TrendingRally count : counts) {
+                args.add(count.getRallyId().toString());
+                args.add(String.valueOf(count.getLikeCount()));
+            }
+            redisTemplate.execute(SEED_SCRIPT, List.of(key(month), key(month) + SEEDED_SUFFIX), args.toArray());
+            log.info("rally trending seeded: month=" + month + ", rallies=" + counts.size());
+            return counts;
+        } finally {
+            redisTemplate.delete(seedingKey);
+        }
+    }
+
+    private List<TrendingRally> countFromDb(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        return likedRallyRepository.findLikeCountsByRally(start, end).stream()
+                .map(view -> new TrendingRally(view.getRallyId(), view.getLikeCount()))
+                .sorted(Comparator.comparingLong(TrendingRally::getLikeCount).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static String key(YearMonth month) {
+        return KEY_PREFIX + month.format(MONTH_FORMAT);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TrendingRally {
+        private final Long rallyId;
+        private final long likeCount;
+    }
+}
@@ -0,0 +1,84 @@
+package com.favoriteplace.global.util;
+
+import com.favoriteplace.global.exception.ErrorCode;
+import com.favoriteplace.global.exception.RestApiException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 게시글, 인증글, 댓글 목록의 커서 (마지막으로 받은 항목의 정렬 키 + id)
+ * (createdAt, id) 또는 (likeCount, id) 를 base64 문자열로 주고받고, 다음 페이지는 이 값 이후부터 조회
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedCursor {
+    private static final String CREATED_AT = "c";
+    private static final String LIKE_COUNT = "l";
+    private static final String DELIMITER = ",";
+
+    private final String type;
+    private final LocalDateTime createdAt;
+    private final Long likeCount;
+    private final Long id;
+
+    public static FeedCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        return new FeedCursor(CREATED_AT, createdAt, null, id);
+    }
+
+    public static FeedCursor ofLikeCount(Long likeCount, Long id) {
+        return new FeedCursor(LIKE_COUNT, null, likeCount, id);
+    }
+
+    public String encode() {
+        String sortKey = CREATED_AT.equals(type) ? createdAt.toString() : likeCount.toString();
+        String raw = type + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decodeCreatedAt(String cursor) {
+        String[] parts = decode(cursor, CREATED_AT);
+        try {
+            return ofCreatedAt(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RestApiException(ErrorCode.CURSOR_NOT_VALID);
+        }
+    }
+
+    public static FeedCursor decodeLikeCount(String cursor) {
+        String[] parts = decode(cursor, LIKE_COUNT);
+        try {
+            return ofLikeCount(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RestApiException(ErrorCode.CURSOR_NOT_VALID);
+        }
+    }
+
+    /**
+     * 조회 결과가 size 만큼 찼을 때만 마지막 항목으로 다음 커서를 만듦 (더 없으면 null)
+     */
+    public static <T> String next(List<T> items, int size, Function<T, String> cursorOf) {
+        if (items.isEmpty() || items.size() < size)
+            return null;
+        return cursorOf.apply(items.get(items.size() - 1));
+    }
+
+    // 다른 정렬의 커서를 넘기면 (최신순 커서로 좋아요순 조회 등) 거절
+    private static String[] decode(String cursor, String expectedType) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+        } catch (IllegalArgumentException e) {
+            throw new RestApiException(ErrorCode.CURSOR_NOT_VALID);
+        }
+        if (parts.length != 3 || !expectedType.equals(parts[0]))
+            throw new RestApiException(ErrorCode.CURSOR_NOT_VALID);
+        return parts;
+    }
+}
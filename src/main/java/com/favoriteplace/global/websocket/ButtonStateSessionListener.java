@@ -0,0 +1,67 @@
+package com.favoriteplace.global.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 연결/종료 시 버튼 상태와 인증/방명록 요약 캐시 정리
+ * 한 사용자가 여러 세션을 가질 수 있으므로 마지막 세션이 끊길 때 제거
+ * (요약 캐시는 인스턴스 단위, 버튼 상태는 저장소가 공유 범위에 맞춰 판단)
+ */
+@Component
+@RequiredArgsConstructor
+public class ButtonStateSessionListener {
+    private final ButtonStateStore buttonStateStore;
+    private final EligibilitySnapshotCache eligibilitySnapshotCache;
+    private final Map<Long, Set<String>> sessionsByMember = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long memberId = getMemberId(event.getUser());
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (memberId == null || sessionId == null) {
+            return;
+        }
+        if (sessionsByMember.computeIfAbsent(memberId, key -> ConcurrentHashMap.newKeySet()).add(sessionId)) {
+            buttonStateStore.retain(memberId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Long memberId = getMemberId(event.getUser());
+        if (memberId == null) {
+            return;
+        }
+        boolean[] removed = {false};
+        boolean[] lastSession = {false};
+        sessionsByMember.computeIfPresent(memberId, (key, sessions) -> {
+            removed[0] = sessions.remove(event.getSessionId());
+            lastSession[0] = sessions.isEmpty();
+            return sessions.isEmpty() ? null : sessions;
+        });
+        // 연결 시 세지 않은 세션은 감소시키지 않음 (종료 이벤트가 중복으로 올 수 있음)
+        if (removed[0]) {
+            buttonStateStore.release(memberId, lastSession[0]);
+        }
+        if (lastSession[0]) {
+            eligibilitySnapshotCache.evict(memberId);
+        }
+    }
+
+    private Long getMemberId(Principal principal) {
+        if (principal instanceof StompPrincipal stompPrincipal) {
+            return stompPrincipal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
+
+/**
+ * 웹소켓 버튼 상태 저장소 ((memberId, pilgrimageId) 단위)
+ */
+public interface ButtonStateStore {
+
+    /**
+     * 새 상태로 교체하고 이전 상태를 반환 (원자적으로 수행)
+     * @return 이전 상태, 없으면 null
+     */
+    PilgrimageSocketDto.ButtonState swap(Long memberId, Long pilgrimageId, PilgrimageSocketDto.ButtonState state);
+
+    /**
+     * 이전 상태가 있을 때만 새 상태로 교체하고 이전 상태를 반환 (원자적으로 수행)
+     * @return 이전 상태, 없으면 null (이 경우 저장하지 않음)
+     */
+    PilgrimageSocketDto.ButtonState replaceIfPresent(Long memberId, Long pilgrimageId, PilgrimageSocketDto.ButtonState state);
+
+    /**
+     * 사용자의 웹소켓 세션이 연결될 때마다 호출
+     */
+    void retain(Long memberId);
+
+    /**
+     * 사용자의 웹소켓 세션이 끊길 때마다 호출, 남은 세션이 없으면 사용자의 모든 버튼 상태 제거
+     * @param lastLocalSession 이 인스턴스에서 사용자의 마지막 세션인지
+     */
+    void release(Long memberId, boolean lastLocalSession);
+}
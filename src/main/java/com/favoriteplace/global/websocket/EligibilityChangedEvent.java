@@ -0,0 +1,15 @@
+package com.favoriteplace.global.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * (사용자, 성지순례)의 인증/방명록 기록이 바뀌었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 버튼 상태 계산용 캐시를 비우는 데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class EligibilityChangedEvent {
+    private final Long memberId;
+    private final Long pilgrimageId;
+}
@@ -0,0 +1,92 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 위치 핑마다 DB를 조회하지 않도록 (사용자, 성지순례)별 인증/방명록 요약을 보관하는 캐시
+ * 인증/방명록 작성이 커밋되면 비우고, 웹소켓 연결이 끊기면 사용자 단위로 제거
+ * 다른 인스턴스에서 일어난 변경을 놓치지 않도록 짧은 TTL을 둠
+ */
+@Component
+public class EligibilitySnapshotCache {
+    private final Map<Long, MemberSnapshots> snapshots = new ConcurrentHashMap<>();
+
+    @Value("${websocket.eligibility-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시된 요약 조회, 없거나 만료되었으면 loader로 적재
+     * DB 조회는 맵 잠금 밖에서 하고, 적재 도중 무효화가 있었다면 결과를 캐시에 남기지 않음
+     */
+    public PilgrimageSocketDto.EligibilitySnapshot get(Long memberId, Long pilgrimageId,
+                                                       Supplier<PilgrimageSocketDto.EligibilitySnapshot> loader) {
+        MemberSnapshots memberSnapshots = snapshots.computeIfAbsent(memberId, key -> new MemberSnapshots());
+        Entry cached = memberSnapshots.entries.get(pilgrimageId);
+        if (cached != null && !cached.isExpired(System.nanoTime(), ttlSeconds)) {
+            return cached.snapshot;
+        }
+
+        long generation = memberSnapshots.invalidations.get();
+        Entry loaded = new Entry(loader.get(), System.nanoTime());
+        boolean installed = cached == null
+                ? memberSnapshots.entries.putIfAbsent(pilgrimageId, loaded) == null
+                : memberSnapshots.entries.replace(pilgrimageId, cached, loaded);
+        if (installed && memberSnapshots.invalidations.get() != generation) {
+            memberSnapshots.entries.remove(pilgrimageId, loaded);
+        }
+        return loaded.snapshot;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEligibilityChanged(EligibilityChangedEvent event) {
+        MemberSnapshots memberSnapshots = snapshots.get(event.getMemberId());
+        if (memberSnapshots != null) {
+            memberSnapshots.invalidations.incrementAndGet();
+            memberSnapshots.entries.remove(event.getPilgrimageId());
+        }
+    }
+
+    // 적재 중인 요청은 떼어낸 MemberSnapshots 에 저장하므로 이후 조회에 보이지 않음
+    public void evict(Long memberId) {
+        snapshots.remove(memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.eligibility-cache.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        snapshots.values().forEach(memberSnapshots ->
+                memberSnapshots.entries.values().removeIf(entry -> entry.isExpired(now, ttlSeconds)));
+        snapshots.values().removeIf(memberSnapshots -> memberSnapshots.entries.isEmpty());
+    }
+
+    // 사용자별 요약과 무효화 세대 값 (적재 도중 같은 사용자의 무효화가 있었는지 확인, 다른 사용자의 변경은 영향 없음)
+    private static final class MemberSnapshots {
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final AtomicLong invalidations = new AtomicLong();
+    }
+
+    private static final class Entry {
+        private final PilgrimageSocketDto.EligibilitySnapshot snapshot;
+        private final long loadedAt;
+
+        private Entry(PilgrimageSocketDto.EligibilitySnapshot snapshot, long loadedAt) {
+            this.snapshot = snapshot;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long ttlSeconds) {
+            return now - loadedAt > TimeUnit.SECONDS.toNanos(ttlSeconds);
+        }
+    }
+}
@@ -1,13 +1,9 @@
 package com.favoriteplace.global.websocket;
 
-import com.favoriteplace.app.domain.Member;
 import com.favoriteplace.app.repository.MemberRepository;
 import com.favoriteplace.global.exception.ErrorCode;
-import com.favoriteplace.global.exception.ErrorResponse;
 import com.favoriteplace.global.exception.RestApiException;
-import com.favoriteplace.global.security.CustomUserDetails;
 import com.favoriteplace.global.security.provider.JwtTokenProvider;
-import com.google.api.gax.rpc.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
@@ -17,13 +13,10 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.messaging.support.MessageHeaderAccessor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -53,23 +46,23 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
                 String jwt = bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : bearerToken;
 
                 try {
-                    // JWT 토큰 검증
-                    if (!jwtProvider.validateToken(jwt)) {
+                    // JWT 토큰 검증 및 사용자 식별 (파싱 1회, 조회 1회)
+                    String email = jwtProvider.getValidSubject(jwt);
+                    if (email == null) {
                         throw new RestApiException(ErrorCode.USER_NOT_AUTHOR);
                     }
 
-                    Authentication authentication = jwtProvider.getAuthentication(jwt);
-
-                    Member member = userUtilityService.findByEmail(authentication.getName())
+                    MemberRepository.PrincipalView member = userUtilityService.findPrincipalByEmail(email)
                             .orElseThrow(() -> new RestApiException(ErrorCode.USER_NOT_FOUND));
 
-                    CustomUserDetails userDetails = new CustomUserDetails(member);
-                    UsernamePasswordAuthenticationToken userInfo =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails, null, userDetails.getAuthorities());
+                    StompPrincipal principal = new StompPrincipal(member.getId(), member.getEmail(), member.getFcmToken());
 
                     // WebSocket 세션에 사용자 정보 저장
-                    accessor.setUser(userInfo);
+                    Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+                    if (sessionAttributes != null) {
+                        sessionAttributes.put(StompPrincipal.SESSION_ATTRIBUTE, principal);
+                    }
+                    accessor.setUser(principal);
 
                 } catch (Exception e) {
                     log.error("JWT Verification Failed: " + e.getMessage());
@@ -0,0 +1,125 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 메모리 기반 버튼 상태 저장소
+ * ConcurrentHashMap의 원자 연산만 사용하므로 전역 락 없이 사용자별로 경합이 분산됨
+ * 일정 시간 접근이 없거나 최대 개수를 넘으면 주기적으로 정리
+ * 여러 인스턴스가 상태를 공유해야 한다면 RedisButtonStateStore 사용 (websocket.button-state.store=redis)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.button-state.store", havingValue = "local", matchIfMissing = true)
+public class LocalButtonStateStore implements ButtonStateStore {
+    private final Map<Long, Map<Long, Entry>> states = new ConcurrentHashMap<>();
+
+    @Value("${websocket.button-state.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${websocket.button-state.max-size:100000}")
+    private int maxSize;
+
+    @Override
+    public PilgrimageSocketDto.ButtonState swap(Long memberId, Long pilgrimageId, PilgrimageSocketDto.ButtonState state) {
+        Entry entry = new Entry(state);
+        Map<Long, Entry> memberStates = states.computeIfAbsent(memberId, key -> new ConcurrentHashMap<>());
+        Entry previous = memberStates.put(pilgrimageId, entry);
+        // 정리 작업이 빈 맵을 막 제거한 경우 새 맵에 다시 저장
+        while (states.get(memberId) != memberStates) {
+            memberStates = states.computeIfAbsent(memberId, key -> new ConcurrentHashMap<>());
+            memberStates.putIfAbsent(pilgrimageId, entry);
+        }
+        return previous == null ? null : previous.state;
+    }
+
+    @Override
+    public PilgrimageSocketDto.ButtonState replaceIfPresent(Long memberId, Long pilgrimageId, PilgrimageSocketDto.ButtonState state) {
+        Map<Long, Entry> memberStates = states.get(memberId);
+        if (memberStates == null) {
+            return null;
+        }
+        Entry previous = memberStates.replace(pilgrimageId, new Entry(state));
+        return previous == null ? null : previous.state;
+    }
+
+    @Override
+    public void retain(Long memberId) {
+    }
+
+    // 인스턴스 안에서만 공유하므로 이 인스턴스의 마지막 세션이면 제거
+    @Override
+    public void release(Long memberId, boolean lastLocalSession) {
+        if (lastLocalSession) {
+            states.remove(memberId);
+        }
+    }
+
+    /**
+     * 만료된 상태 정리, 최대 개수 초과 시 오래된 순으로 제거
+     */
+    @Scheduled(fixedDelayString = "${websocket.button-state.sweep-interval-ms:60000}")
+    public void sweep() {
+        long expiredBefore = System.nanoTime() - TimeUnit.MINUTES.toNanos(ttlMinutes);
+        List<Candidate> alive = new ArrayList<>();
+
+        for (Map.Entry<Long, Map<Long, Entry>> member : states.entrySet()) {
+            Map<Long, Entry> memberStates = member.getValue();
+            memberStates.entrySet().removeIf(entry -> entry.getValue().accessedAt - expiredBefore < 0);
+            if (memberStates.isEmpty()) {
+                states.computeIfPresent(member.getKey(), (key, current) -> current.isEmpty() ? null : current);
+                continue;
+            }
+            memberStates.forEach((pilgrimageId, entry) ->
+                    alive.add(new Candidate(member.getKey(), pilgrimageId, entry)));
+        }
+
+        int overflow = alive.size() - maxSize;
+        if (overflow > 0) {
+            alive.sort(Comparator.comparingLong(candidate -> candidate.entry.accessedAt - expiredBefore));
+            for (int i = 0; i < overflow; i++) {
+                Candidate candidate = alive.get(i);
+                Map<Long, Entry> memberStates = states.get(candidate.memberId);
+                if (memberStates != null) {
+                    // 정리 중에 갱신된 상태는 남겨둠
+                    memberStates.remove(candidate.pilgrimageId, candidate.entry);
+                }
+            }
+            log.info("button state store overflow. evicted=" + overflow);
+        }
+    }
+
+    private static final class Entry {
+        private final PilgrimageSocketDto.ButtonState state;
+        private final long accessedAt;
+
+        private Entry(PilgrimageSocketDto.ButtonState state) {
+            this.state = state;
+            this.accessedAt = System.nanoTime();
+        }
+    }
+
+    private static final class Candidate {
+        private final Long memberId;
+        private final Long pilgrimageId;
+        private final Entry entry;
+
+        private Candidate(Long memberId, Long pilgrimageId, Entry entry) {
+            this.memberId = memberId;
+            this.pilgrimageId = pilgrimageId;
+            this.entry = entry;
+        }
+    }
+}
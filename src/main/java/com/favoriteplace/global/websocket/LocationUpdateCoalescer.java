@@ -0,0 +1,174 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.global.geo.GeoUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹소켓 위치 업데이트(/app/location) 수신 조절기
+ * - (세션, 성지순례)마다 초당 최대 N개의 위치만 처리하고, 그 사이에 들어온 위치는 가장 최근 것만 남겨 뒀다가 처리
+ * - 직전에 처리한 위치에서 일정 거리 이상 움직이지 않았다면 버림
+ *   (단, 버튼 상태가 시간에 따라 바뀔 수 있으므로 일정 시간이 지나면 움직이지 않아도 처리)
+ */
+@Slf4j
+@Component
+public class LocationUpdateCoalescer {
+    private final Map<String, Map<Long, Slot>> slotsBySession = new ConcurrentHashMap<>();
+    private final Executor locationUpdateExecutor;
+    private final Counter processedCounter;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter deferredCounter;
+
+    @Value("${websocket.location.max-per-second:1}")
+    private int maxPerSecond;
+
+    @Value("${websocket.location.min-move-meter:5}")
+    private double minMoveMeter;
+
+    @Value("${websocket.location.max-idle-ms:10000}")
+    private long maxIdleMillis;
+
+    public LocationUpdateCoalescer(@Qualifier("locationUpdateExecutor") Executor locationUpdateExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.locationUpdateExecutor = locationUpdateExecutor;
+        this.processedCounter = meterRegistry.counter("websocket.location.updates", "result", "processed");
+        this.coalescedCounter = meterRegistry.counter("websocket.location.updates", "result", "coalesced");
+        this.droppedCounter = meterRegistry.counter("websocket.location.updates", "result", "dropped");
+        this.deferredCounter = meterRegistry.counter("websocket.location.updates", "result", "deferred");
+    }
+
+    /**
+     * 위치 업데이트 접수, 바로 처리할 수 있으면 호출한 스레드에서 처리
+     * @param sessionId STOMP 세션 ID
+     * @param pilgrimageId 성지순례 ID
+     * @param latitude 사용자의 위도
+     * @param longitude 사용자의 경도
+     * @param task 위치 처리 작업 (버튼 상태 계산 및 전송)
+     */
+    public void submit(String sessionId, Long pilgrimageId, Double latitude, Double longitude, Runnable task) {
+        if (latitude == null || longitude == null) {
+            droppedCounter.increment();
+            return;
+        }
+        Slot slot = slotsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(pilgrimageId, key -> new Slot());
+
+        boolean runNow;
+        synchronized (slot) {
+            long now = System.nanoTime();
+            // 대기 중인 위치가 없을 때만 이동 거리 확인 (대기 중이면 최신 위치로 교체)
+            if (slot.processed && slot.pendingTask == null && !isIdle(slot, now)
+                    && GeoUtils.haversineMeter(slot.latitude, slot.longitude, latitude, longitude) < minMoveMeter) {
+                droppedCounter.increment();
+                return;
+            }
+            runNow = !slot.processed || now - slot.processedAt >= minIntervalNanos();
+            if (runNow) {
+                slot.markProcessed(latitude, longitude, now);
+            } else {
+                if (slot.pendingTask != null) {
+                    coalescedCounter.increment();
+                }
+                slot.pendingTask = task;
+                slot.pendingLatitude = latitude;
+                slot.pendingLongitude = longitude;
+            }
+        }
+        if (runNow) {
+            // 바로 처리하는 경우 예외는 기존처럼 메시지 핸들러로 전달
+            processedCounter.increment();
+            task.run();
+        }
+    }
+
+    /**
+     * 처리 간격이 지난 대기 위치를 처리
+     */
+    @Scheduled(fixedDelayString = "${websocket.location.flush-interval-ms:200}")
+    public void flush() {
+        long now = System.nanoTime();
+        for (Map<Long, Slot> slots : slotsBySession.values()) {
+            for (Slot slot : slots.values()) {
+                Runnable task;
+                double latitude;
+                double longitude;
+                synchronized (slot) {
+                    if (slot.pendingTask == null || now - slot.processedAt < minIntervalNanos()) {
+                        continue;
+                    }
+                    task = slot.pendingTask;
+                    latitude = slot.pendingLatitude;
+                    longitude = slot.pendingLongitude;
+                    slot.markProcessed(latitude, longitude, now);
+                }
+                try {
+                    locationUpdateExecutor.execute(() -> runPending(task));
+                } catch (RejectedExecutionException e) {
+                    // 스레드풀이 가득 찼다면 다시 대기시킴 (그 사이 새 위치가 들어왔다면 새 위치가 우선)
+                    deferredCounter.increment();
+                    synchronized (slot) {
+                        if (slot.pendingTask == null) {
+                            slot.pendingTask = task;
+                            slot.pendingLatitude = latitude;
+                            slot.pendingLongitude = longitude;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        slotsBySession.remove(event.getSessionId());
+    }
+
+    private void runPending(Runnable task) {
+        processedCounter.increment();
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("location update failed: " + e.getMessage());
+        }
+    }
+
+    private boolean isIdle(Slot slot, long now) {
+        return now - slot.processedAt >= TimeUnit.MILLISECONDS.toNanos(maxIdleMillis);
+    }
+
+    private long minIntervalNanos() {
+        return TimeUnit.SECONDS.toNanos(1) / Math.max(maxPerSecond, 1);
+    }
+
+    private static final class Slot {
+        private boolean processed;
+        private long processedAt;
+        private double latitude;
+        private double longitude;
+        private Runnable pendingTask;
+        private double pendingLatitude;
+        private double pendingLongitude;
+
+        private void markProcessed(double latitude, double longitude, long now) {
+            this.processed = true;
+            this.processedAt = now;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.pendingTask = null;
+        }
+    }
+}
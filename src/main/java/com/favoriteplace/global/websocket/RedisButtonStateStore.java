@@ -0,0 +1,126 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 해시 기반 버튼 상태 저장소 (websocket.button-state.store=redis)
+ * 여러 WAS 인스턴스가 상태를 공유하므로 재연결이 다른 노드로 가도 이전 상태가 유지됨
+ * key: button-state:{memberId}, field: pilgrimageId, value: 버튼 상태 3자리 플래그 (예: "100")
+ * 연결된 세션 수는 button-state-sessions:{memberId} 에 모든 인스턴스 합계로 관리하고, 0이 될 때만 상태를 만료시킴
+ * 파이프라이닝 대신 Lua 스크립트를 사용함: 이전 상태 비교가 원자적이어야 하고, 왕복 횟수는 파이프라인과 같은 한 번
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.button-state.store", havingValue = "redis")
+public class RedisButtonStateStore implements ButtonStateStore {
+    private static final String BUTTON_STATE_KEY_PREFIX = "button-state:";
+    private static final String SESSION_COUNT_KEY_PREFIX = "button-state-sessions:";
+    // 인스턴스가 비정상 종료해 감소되지 못한 세션 수가 영구히 남지 않도록 만료 (연결마다 갱신)
+    private static final Duration SESSION_COUNT_TTL = Duration.ofDays(1);
+
+    // 조회/저장/만료 갱신을 한 번의 왕복으로 원자적으로 처리
+    private static final RedisScript<String> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "local previous = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return previous", String.class);
+
+    private static final RedisScript<String> REPLACE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "local previous = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if previous then " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "end " +
+            "return previous", String.class);
+
+    private static final RedisScript<Long> RETAIN_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return count", Long.class);
+
+    // 마지막 세션이면 세션 수를 지우고 버튼 상태는 유예 시간 후 만료
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('DECR', KEYS[1]) " +
+            "if count <= 0 then " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "end " +
+            "return count", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration disconnectGrace;
+
+    public RedisButtonStateStore(StringRedisTemplate redisTemplate,
+                                 @Value("${websocket.button-state.ttl-minutes:30}") long ttlMinutes,
+                                 @Value("${websocket.button-state.disconnect-grace-minutes:5}") long disconnectGraceMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.disconnectGrace = Duration.ofMinutes(disconnectGraceMinutes);
+    }
+
+    @Override
+    public PilgrimageSocketDto.ButtonState swap(Long memberId, Long pilgrimageId, PilgrimageSocketDto.ButtonState state) {
+        String previous = redisTemplate.execute(SWAP_SCRIPT, List.of(key(memberId)),
+                String.valueOf(pilgrimageId), encode(state), String.valueOf(ttl.toMillis()));
+        return decode(previous);
+    }
+
+    @Override
+    public PilgrimageSocketDto.ButtonState replaceIfPresent(Long memberId, Long pilgrimageId, PilgrimageSocketDto.ButtonState state) {
+        String previous = redisTemplate.execute(REPLACE_IF_PRESENT_SCRIPT, List.of(key(memberId)),
+                String.valueOf(pilgrimageId), encode(state), String.valueOf(ttl.toMillis()));
+        return decode(previous);
+    }
+
+    @Override
+    public void retain(Long memberId) {
+        redisTemplate.execute(RETAIN_SCRIPT, List.of(sessionCountKey(memberId)),
+                String.valueOf(SESSION_COUNT_TTL.toMillis()));
+    }
+
+    /**
+     * 다른 인스턴스에 연결된 세션이 남아 있으면 그대로 두고, 모든 세션이 끊겼을 때만 유예 시간 후 만료
+     * (연결 종료가 노드 전환 때문일 수 있으므로 바로 지우지 않음)
+     */
+    @Override
+    public void release(Long memberId, boolean lastLocalSession) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(sessionCountKey(memberId), key(memberId)),
+                String.valueOf(disconnectGrace.toMillis()));
+    }
+
+    private String key(Long memberId) {
+        return BUTTON_STATE_KEY_PREFIX + memberId;
+    }
+
+    private String sessionCountKey(Long memberId) {
+        return SESSION_COUNT_KEY_PREFIX + memberId;
+    }
+
+    static String encode(PilgrimageSocketDto.ButtonState state) {
+        return new String(new char[]{
+                flag(state.getCertifyButtonEnabled()),
+                flag(state.getGuestbookButtonEnabled()),
+                flag(state.getMultiGuestbookButtonEnabled())});
+    }
+
+    static PilgrimageSocketDto.ButtonState decode(String value) {
+        if (value == null || value.length() != 3) {
+            return null;
+        }
+        return new PilgrimageSocketDto.ButtonState(
+                value.charAt(0) == '1', value.charAt(1) == '1', value.charAt(2) == '1');
+    }
+
+    private static char flag(Boolean enabled) {
+        return Boolean.TRUE.equals(enabled) ? '1' : '0';
+    }
+}
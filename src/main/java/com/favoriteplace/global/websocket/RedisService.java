@@ -1,7 +1,5 @@
 package com.favoriteplace.global.websocket;
 
-import com.favoriteplace.app.domain.Member;
-import com.favoriteplace.app.domain.travel.Pilgrimage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -18,6 +16,8 @@ public class RedisService {
     private final RedisTemplate<String, Object> redisTemplate;
     private static final String CERTIFICATION_KEY_PREFIX = "certification:";
     private static final Duration CERTIFICATION_EXPIRATION = Duration.ofMinutes(1);
+    private static final String CERTIFY_TOKEN_KEY_PREFIX = "certify:";
+    public static final Duration CERTIFY_WINDOW = Duration.ofHours(24);
 
     // 사용자가 인증 장소에 접속한 시점을 저장
     public void saveCertificationTime(Long userId, Long pilgrimageId) {
@@ -28,8 +28,8 @@ public class RedisService {
     }
 
     // 인증 시점에서 1분이 지났는지 확인
-    public boolean isCertificationExpired(Member member, Pilgrimage pilgrimage) {
-        String key = CERTIFICATION_KEY_PREFIX + member.getId() + ":" + pilgrimage.getId();
+    public boolean isCertificationExpired(Long userId, Long pilgrimageId) {
+        String key = CERTIFICATION_KEY_PREFIX + userId + ":" + pilgrimageId;
         String savedTimeString = (String) redisTemplate.opsForValue().get(key);
 
         if (savedTimeString == null) {
@@ -44,4 +44,27 @@ public class RedisService {
         String key = CERTIFICATION_KEY_PREFIX + userId + ":" + pilgrimageId;
         redisTemplate.delete(key);
     }
-}
\ No newline at end of file
+
+    /**
+     * 성지순례 인증 멱등 토큰 선점 (member, pilgrimage, 24시간 창)
+     * 이미 토큰이 있다면 24시간 이내 인증된 것이므로 DB 조회 없이 중복 요청으로 판단
+     * @return 선점 성공 여부
+     */
+    public boolean acquireCertifyToken(Long userId, Long pilgrimageId) {
+        String key = CERTIFY_TOKEN_KEY_PREFIX + userId + ":" + pilgrimageId;
+        String now = DateTimeFormatter.ISO_INSTANT.format(Instant.now());
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, now, CERTIFY_WINDOW));
+    }
+
+    // 토큰 만료 시점을 실제 마지막 방문 기준 남은 시간으로 맞춤
+    public void expireCertifyToken(Long userId, Long pilgrimageId, Duration remaining) {
+        String key = CERTIFY_TOKEN_KEY_PREFIX + userId + ":" + pilgrimageId;
+        redisTemplate.expire(key, remaining);
+    }
+
+    // 인증 실패(롤백) 시 토큰 반납
+    public void releaseCertifyToken(Long userId, Long pilgrimageId) {
+        String key = CERTIFY_TOKEN_KEY_PREFIX + userId + ":" + pilgrimageId;
+        redisTemplate.delete(key);
+    }
+}
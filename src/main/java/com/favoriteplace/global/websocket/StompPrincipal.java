@@ -0,0 +1,26 @@
+package com.favoriteplace.global.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Principal;
+
+/**
+ * 웹소켓 세션에 보관하는 인증 사용자 정보 (CONNECT 시 한 번만 조회)
+ * 메시지마다 Member 엔티티를 다시 조회하지 않도록 식별에 필요한 값만 보관
+ */
+@Getter
+@RequiredArgsConstructor
+public final class StompPrincipal implements Principal {
+    public static final String SESSION_ATTRIBUTE = "stompPrincipal";
+
+    private final Long id;
+    private final String email;
+    private final String fcmToken;
+
+    // 사용자 목적지(/user/...)는 사용자 ID로 구분
+    @Override
+    public String getName() {
+        return String.valueOf(id);
+    }
+}
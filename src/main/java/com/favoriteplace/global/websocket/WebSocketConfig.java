@@ -1,6 +1,7 @@
 package com.favoriteplace.global.websocket;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -14,10 +15,62 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtChannelInterceptor jwtChannelInterceptor;
 
+    // simple: 서버 메모리 브로커 (단일 인스턴스, 테스트), relay: 외부 STOMP 브로커 (ActiveMQ Artemis) 중계
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.channel.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channel.queue-capacity:1000}")
+    private int queueCapacity;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 버튼 상태는 사용자별 데이터이므로 /user 접두사로 해당 사용자에게만 전송
         registry.setApplicationDestinationPrefixes("/app")
-                .enableSimpleBroker("/pub");
+                .setUserDestinationPrefix("/user")
+                // 아웃바운드 스레드풀을 늘려도 세션별 전송 순서 유지
+                .setPreservePublishOrder(true);
+
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 여러 인스턴스가 구독 정보를 공유하도록 외부 브로커로 중계
+            // 클라이언트가 구독 중인 /pub/... 목적지를 그대로 쓰므로 임의의 목적지 이름을 받는 Artemis 만 지원
+            // (RabbitMQ, ActiveMQ Classic 은 /topic/, /queue/ 형식만 허용하므로 사용 불가)
+            registry.enableStompBrokerRelay("/pub", "/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 다른 인스턴스에 연결된 사용자에게도 /user 메시지가 전달되도록 사용자 정보 공유
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            registry.enableSimpleBroker("/pub");
+        }
     }
 
     @Override
@@ -29,5 +82,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(jwtChannelInterceptor);
+        // 위치 메시지 처리 중 DB/Redis 대기가 있으므로 코어 수보다 넉넉하게
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(queueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(queueCapacity);
     }
 }
@@ -0,0 +1,132 @@
+package com.favoriteplace.app.service;
+
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.travel.CertificationOutbox;
+import com.favoriteplace.app.domain.travel.Rally;
+import com.favoriteplace.app.repository.AcquiredItemRepository;
+import com.favoriteplace.app.repository.CertificationOutboxRepository;
+import com.favoriteplace.app.repository.CompleteRallyRepository;
+import com.favoriteplace.app.repository.MemberRepository;
+import com.favoriteplace.app.repository.RallyRepository;
+import com.favoriteplace.support.JpaSliceConfig;
+import com.favoriteplace.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:certificationoutbox;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "certification.outbox.max-attempts=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceConfig.class)
+@Import(CertificationOutboxProcessor.class)
+// 처리기가 직접 트랜잭션을 나누므로 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CertificationOutboxProcessorTest {
+    private static final Long DELETED_RALLY_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private TransactionTemplate tx;
+    @Autowired
+    private CertificationOutboxProcessor certificationOutboxProcessor;
+    @Autowired
+    private CertificationOutboxRepository certificationOutboxRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private RallyRepository rallyRepository;
+    @Autowired
+    private CompleteRallyRepository completeRallyRepository;
+    @Autowired
+    private AcquiredItemRepository acquiredItemRepository;
+
+    private Member member;
+    private Rally rally;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트에서 남은 (dead letter) 이벤트 정리
+        certificationOutboxRepository.deleteAllInBatch();
+        member = tx.execute(status -> fixtures.member("outbox"));
+        rally = tx.execute(status -> fixtures.rally(1L));
+    }
+
+    @Test
+    void 방문_포인트는_이벤트마다_한_번_지급하고_이벤트를_삭제한다() {
+        //Given
+        certificationOutboxProcessor.enqueueVisit(member.getId(), rally.getId(), 1L);
+        certificationOutboxProcessor.enqueueVisit(member.getId(), rally.getId(), 2L);
+
+        //When
+        certificationOutboxProcessor.process();
+        certificationOutboxProcessor.process();
+
+        //Then
+        assertThat(point()).isEqualTo(30L);
+        assertThat(certificationOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 같은_랠리_완료_이벤트가_중복되어도_한_번만_반영한다() {
+        //Given
+        certificationOutboxProcessor.enqueueRallyComplete(member.getId(), rally.getId(), 1L);
+        certificationOutboxProcessor.enqueueRallyComplete(member.getId(), rally.getId(), 1L);
+
+        //When
+        certificationOutboxProcessor.process();
+        certificationOutboxProcessor.enqueueRallyComplete(member.getId(), rally.getId(), 1L);
+        certificationOutboxProcessor.process();
+
+        //Then
+        assertThat(point()).isEqualTo(100L);
+        assertThat(rallyRepository.findById(rally.getId()).orElseThrow().getAchieveNumber()).isEqualTo(1L);
+        tx.executeWithoutResult(status -> {
+            Member saved = memberRepository.findById(member.getId()).orElseThrow();
+            Rally savedRally = rallyRepository.findById(rally.getId()).orElseThrow();
+            assertThat(completeRallyRepository.findByMemberAndRally(saved, savedRally)).hasSize(1);
+            assertThat(acquiredItemRepository.findByMemberAndItem(saved, savedRally.getItem())).isPresent();
+        });
+    }
+
+    @Test
+    void 실패하는_이벤트는_다른_이벤트를_막지_않고_최대_횟수_후_dead_letter_처리한다() {
+        //Given
+        certificationOutboxProcessor.enqueueRallyComplete(member.getId(), DELETED_RALLY_ID, 1L);
+        certificationOutboxProcessor.enqueueVisit(member.getId(), rally.getId(), 1L);
+
+        //When
+        certificationOutboxProcessor.process();
+
+        //Then
+        assertThat(point()).isEqualTo(15L);
+        CertificationOutbox failed = certificationOutboxRepository.findAll().get(0);
+        assertThat(failed.getAttemptCount()).isEqualTo(1);
+        assertThat(failed.getDeadLetteredAt()).isNull();
+
+        //When
+        certificationOutboxProcessor.process();
+        certificationOutboxProcessor.process();
+
+        //Then
+        failed = certificationOutboxRepository.findById(failed.getId()).orElseThrow();
+        assertThat(failed.getAttemptCount()).isEqualTo(2);
+        assertThat(failed.getDeadLetteredAt()).isNotNull();
+        assertThat(failed.getLastError()).isNotBlank();
+    }
+
+    private Long point() {
+        return memberRepository.findById(member.getId()).orElseThrow().getPoint();
+    }
+}
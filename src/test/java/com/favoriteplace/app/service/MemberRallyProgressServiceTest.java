@@ -0,0 +1,110 @@
+package com.favoriteplace.app.service;
+
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.travel.MemberRallyProgress;
+import com.favoriteplace.app.domain.travel.Rally;
+import com.favoriteplace.app.repository.MemberRallyProgressRepository;
+import com.favoriteplace.support.JpaSliceConfig;
+import com.favoriteplace.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rallyprogress;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceConfig.class)
+@Import(MemberRallyProgressService.class)
+// 스레드마다 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRallyProgressServiceTest {
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MemberRallyProgressService memberRallyProgressService;
+    @Autowired
+    private MemberRallyProgressRepository memberRallyProgressRepository;
+
+    private TransactionTemplate tx;
+    private Member member;
+    private Rally rally;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        // 테스트마다 새로운 (사용자, 랠리)로 진행도가 없는 상태에서 시작
+        member = tx.execute(status -> fixtures.member("progress"));
+        rally = tx.execute(status -> fixtures.rally((long) THREAD_COUNT));
+    }
+
+    @Test
+    void 처음_인증이_동시에_들어와도_한_행에_모두_반영된다() throws Exception {
+        //Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return memberRallyProgressService.increaseVisitedCount(member, rally);
+            }));
+        }
+        ready.await();
+        start.countDown();
+        List<Long> counts = new ArrayList<>();
+        for (Future<Long> result : results) {
+            counts.add(result.get(30, TimeUnit.SECONDS));  //unique key 충돌로 실패했다면 여기서 예외
+        }
+        executor.shutdown();
+
+        //Then
+        assertThat(counts).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        MemberRallyProgress progress = findProgress();
+        assertThat(progress.getDistinctVisitedCount()).isEqualTo(THREAD_COUNT);
+        assertThat(progress.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void 모든_성지순례를_방문하기_전에는_완료_시점이_없다() {
+        //When
+        Long count = memberRallyProgressService.increaseVisitedCount(member, rally);
+
+        //Then
+        assertThat(count).isEqualTo(1L);
+        assertThat(findProgress().getCompletedAt()).isNull();
+    }
+
+    private MemberRallyProgress findProgress() {
+        return memberRallyProgressRepository.findAll().stream()
+                .filter(progress -> progress.getMember().getId().equals(member.getId())
+                        && progress.getRally().getId().equals(rally.getId()))
+                .findFirst().orElseThrow();
+    }
+}
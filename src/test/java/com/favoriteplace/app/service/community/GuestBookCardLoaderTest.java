@@ -0,0 +1,115 @@
+package com.favoriteplace.app.service.community;
+
+import com.favoriteplace.app.domain.Image;
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.community.Comment;
+import com.favoriteplace.app.domain.community.GuestBook;
+import com.favoriteplace.app.domain.community.HashTag;
+import com.favoriteplace.app.domain.travel.Pilgrimage;
+import com.favoriteplace.app.dto.community.GuestBookResponseDto;
+import com.favoriteplace.app.repository.GuestBookImplRepository;
+import com.favoriteplace.app.repository.GuestBookRepository;
+import com.favoriteplace.support.JpaSliceConfig;
+import com.favoriteplace.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:guestbookcard;MODE=MySQL;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = JpaSliceConfig.class)
+@Import({GuestBookImplRepository.class, GuestBookCardLoader.class})
+class GuestBookCardLoaderTest {
+    private static final int GUESTBOOK_COUNT = 10;
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private GuestBookImplRepository guestBookImplRepository;
+    @Autowired
+    private GuestBookRepository guestBookRepository;
+    @Autowired
+    private GuestBookCardLoader guestBookCardLoader;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Member member = fixtures.member("guestbook");
+        Pilgrimage pilgrimage = fixtures.pilgrimage(fixtures.rally(1L));
+        for (int i = 0; i < GUESTBOOK_COUNT; i++) {
+            GuestBook guestBook = fixtures.persist(GuestBook.builder()
+                    .member(member)
+                    .pilgrimage(pilgrimage)
+                    .title("인증글" + i)
+                    .content("내용")
+                    .likeCount(0L)
+                    .view(0L)
+                    .build());
+            fixtures.persist(Image.builder().guestBook(guestBook).url("https://example.com/" + i + "-1.png").build());
+            fixtures.persist(Image.builder().guestBook(guestBook).url("https://example.com/" + i + "-2.png").build());
+            fixtures.persist(HashTag.builder().guestBook(guestBook).tagName("태그" + i).build());
+            fixtures.persist(HashTag.builder().guestBook(guestBook).tagName("성지").build());
+            fixtures.persist(Comment.builder().member(member).guestBook(guestBook).content("댓글").build());
+            fixtures.persist(Comment.builder().member(member).guestBook(guestBook).content("댓글").build());
+            fixtures.persist(Comment.builder().member(member).guestBook(guestBook).content("댓글").build()).softDeleteComment();
+        }
+        em.flush();
+        // 댓글 수는 CommentCommandService 를 거치지 않았으므로 보정 쿼리로 채움
+        guestBookRepository.reconcileCommentCount();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 페이지_크기와_상관없이_쿼리_수가_같다() {
+        //When
+        long smallPageQueries = countQueries(2);
+        long fullPageQueries = countQueries(GUESTBOOK_COUNT);
+
+        //Then
+        // 목록 1번 + 썸네일, 해시태그 IN 쿼리 2번 (댓글 수는 컬럼)
+        assertThat(smallPageQueries).isEqualTo(3);
+        assertThat(fullPageQueries).isEqualTo(smallPageQueries);
+    }
+
+    @Test
+    void 첫_이미지와_해시태그와_삭제되지_않은_댓글_수를_채운다() {
+        //When
+        List<GuestBookResponseDto.TotalGuestBookInfo> cards =
+                guestBookCardLoader.toTotalGuestBookInfos(guestBookImplRepository.findAllByOrderByCreatedAtDesc(1, GUESTBOOK_COUNT));
+
+        //Then
+        assertThat(cards).hasSize(GUESTBOOK_COUNT);
+        GuestBookResponseDto.TotalGuestBookInfo card = cards.stream()
+                .filter(info -> info.getTitle().equals("인증글0"))
+                .findFirst().orElseThrow();
+        assertThat(card.getThumbnail()).isEqualTo("https://example.com/0-1.png");
+        assertThat(card.getHashTags()).containsExactly("태그0", "성지");
+        assertThat(card.getComments()).isEqualTo(2L);
+    }
+
+    private long countQueries(int size) {
+        em.clear();
+        statistics.clear();
+        guestBookCardLoader.toTotalGuestBookInfos(guestBookImplRepository.findAllByOrderByCreatedAtDesc(1, size));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,61 @@
+package com.favoriteplace.global.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+    private final NgramIndex<String> index = new NgramIndex<>(
+            List.of("너의 이름은", "스즈메의 문단속", "날씨의 아이", "Your Name", "すずめの戸締まり"),
+            name -> List.of(name));
+
+    @Test
+    void 접두어가_포함보다_먼저_나온다() {
+        //Given
+        NgramIndex<String> index = new NgramIndex<>(List.of("오늘의 날씨", "날씨의 아이"), name -> List.of(name));
+
+        //When
+        List<String> result = index.search("날씨");
+
+        //Then
+        assertThat(result).containsExactly("날씨의 아이", "오늘의 날씨");
+    }
+
+    @Test
+    void 공백과_대소문자를_무시한다() {
+        //When
+        List<String> result = index.search("yourname");
+
+        //Then
+        assertThat(result).containsExactly("Your Name");
+    }
+
+    @Test
+    void 오타가_있어도_찾는다() {
+        //When
+        List<String> result = index.search("스즈매의 문단속");
+
+        //Then
+        assertThat(result).containsExactly("스즈메의 문단속");
+    }
+
+    @Test
+    void 일본어_이름도_찾는다() {
+        //When
+        List<String> result = index.search("すずめ");
+
+        //Then
+        assertThat(result).containsExactly("すずめの戸締まり");
+    }
+
+    @Test
+    void 관련없는_검색어는_결과가_없다() {
+        //When
+        List<String> result = index.search("진격의 거인");
+
+        //Then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.app.dto.travel.PilgrimageSocketDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisButtonStateStoreTest {
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Test
+    void swapReturnsPreviousStateAcrossInstances() {
+        //Given
+        RedisButtonStateStore node1 = new RedisButtonStateStore(redisTemplate, 30, 5);
+        RedisButtonStateStore node2 = new RedisButtonStateStore(redisTemplate, 30, 5);
+        PilgrimageSocketDto.ButtonState certify = new PilgrimageSocketDto.ButtonState(true, false, false);
+        PilgrimageSocketDto.ButtonState guestbook = new PilgrimageSocketDto.ButtonState(false, true, false);
+
+        //When
+        PilgrimageSocketDto.ButtonState first = node1.swap(1L, 10L, certify);
+        PilgrimageSocketDto.ButtonState second = node2.swap(1L, 10L, guestbook);
+
+        //Then
+        assertThat(first).isNull();
+        assertThat(second).isEqualTo(certify);
+        assertThat(redisTemplate.getExpire("button-state:1")).isPositive();
+    }
+
+    @Test
+    void replaceIfPresentDoesNotCreateState() {
+        //Given
+        RedisButtonStateStore store = new RedisButtonStateStore(redisTemplate, 30, 5);
+        PilgrimageSocketDto.ButtonState reset = new PilgrimageSocketDto.ButtonState(false, false, false);
+        PilgrimageSocketDto.ButtonState certify = new PilgrimageSocketDto.ButtonState(true, false, false);
+
+        //When
+        PilgrimageSocketDto.ButtonState missing = store.replaceIfPresent(2L, 20L, reset);
+        store.swap(2L, 20L, certify);
+        PilgrimageSocketDto.ButtonState present = store.replaceIfPresent(2L, 20L, reset);
+
+        //Then
+        assertThat(missing).isNull();
+        assertThat(present).isEqualTo(certify);
+        assertThat(store.swap(2L, 20L, certify)).isEqualTo(reset);
+    }
+
+    @Test
+    void releaseOfLastSessionKeepsStateForGracePeriod() {
+        //Given
+        RedisButtonStateStore store = new RedisButtonStateStore(redisTemplate, 30, 5);
+        store.retain(3L);
+        store.swap(3L, 30L, new PilgrimageSocketDto.ButtonState(true, false, false));
+
+        //When
+        store.release(3L, true);
+
+        //Then
+        assertThat(redisTemplate.hasKey("button-state:3")).isTrue();
+        assertThat(redisTemplate.getExpire("button-state:3")).isLessThanOrEqualTo(5 * 60);
+        assertThat(redisTemplate.hasKey("button-state-sessions:3")).isFalse();
+    }
+
+    @Test
+    void releaseKeepsStateWhileSessionRemainsOnOtherInstance() {
+        //Given
+        RedisButtonStateStore node1 = new RedisButtonStateStore(redisTemplate, 30, 5);
+        RedisButtonStateStore node2 = new RedisButtonStateStore(redisTemplate, 30, 5);
+        node1.retain(4L);
+        node2.retain(4L);
+        node1.swap(4L, 40L, new PilgrimageSocketDto.ButtonState(true, false, false));
+
+        //When
+        node1.release(4L, true);
+
+        //Then
+        assertThat(redisTemplate.getExpire("button-state:4")).isGreaterThan(5 * 60);
+
+        //When
+        node2.release(4L, true);
+
+        //Then
+        assertThat(redisTemplate.getExpire("button-state:4")).isLessThanOrEqualTo(5 * 60);
+    }
+}
@@ -0,0 +1,172 @@
+package com.favoriteplace.global.websocket;
+
+import com.favoriteplace.app.repository.MemberRepository;
+import com.favoriteplace.global.security.provider.JwtTokenProvider;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * websocket.broker.mode=relay 설정으로 embedded Artemis 를 거쳐 /user 메시지가 전달되는지 확인
+ * 웹소켓 설정과 인증 인터셉터만 띄우고, 회원 조회와 JWT 검증은 MockBean 으로 대체
+ */
+@SpringBootTest(classes = StompBrokerRelayTest.RelayTestApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("relay")
+class StompBrokerRelayTest {
+    private static final String TOKEN = "relay-token";
+    private static final long MEMBER_ID = 1L;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final int STOMP_PORT = freePort();
+    private static final EmbeddedActiveMQ BROKER = startBroker();
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, WebSocketServletAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @Import({WebSocketConfig.class, JwtChannelInterceptor.class})
+    static class RelayTestApplication {
+    }
+
+    @MockBean
+    private MemberRepository memberRepository;
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("websocket.broker.relay.port", () -> STOMP_PORT);
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        BROKER.stop();
+    }
+
+    @Test
+    void convertAndSendToUserIsDeliveredThroughRelay() throws Exception {
+        //Given
+        given(jwtTokenProvider.getValidSubject(TOKEN)).willReturn("relay@example.com");
+        given(memberRepository.findPrincipalByEmail("relay@example.com")).willReturn(Optional.of(principal()));
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + TOKEN);
+        StompSession session = stompClient
+                .connectAsync("ws://localhost:" + port + "/ws", new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() {})
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe("/user/pub/statusUpdate/10", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((String) payload);
+            }
+        });
+
+        //When
+        // 브로커에 구독이 등록되기 전에 보낸 메시지는 버려지므로 받을 때까지 다시 보냄
+        String message = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (message == null && System.nanoTime() < deadline) {
+            messagingTemplate.convertAndSendToUser(String.valueOf(MEMBER_ID), "/pub/statusUpdate/10", "100");
+            message = received.poll(200, TimeUnit.MILLISECONDS);
+        }
+        session.disconnect();
+
+        //Then
+        assertThat(message).isEqualTo("100");
+    }
+
+    private static MemberRepository.PrincipalView principal() {
+        return new MemberRepository.PrincipalView() {
+            @Override
+            public Long getId() {
+                return MEMBER_ID;
+            }
+
+            @Override
+            public String getEmail() {
+                return "relay@example.com";
+            }
+
+            @Override
+            public String getFcmToken() {
+                return null;
+            }
+        };
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 인증 없이 STOMP 만 받는 비영속 브로커 (목적지 이름을 그대로 주소로 사용)
+    private static EmbeddedActiveMQ startBroker() {
+        try {
+            EmbeddedActiveMQ broker = new EmbeddedActiveMQ();
+            broker.setConfiguration(new ConfigurationImpl()
+                    .setPersistenceEnabled(false)
+                    .setSecurityEnabled(false)
+                    .addAcceptorConfiguration("stomp", "tcp://localhost:" + STOMP_PORT + "?protocols=STOMP"));
+            broker.start();
+            return broker;
+        } catch (Exception e) {
+            throw new IllegalStateException("embedded artemis start failed", e);
+        }
+    }
+}
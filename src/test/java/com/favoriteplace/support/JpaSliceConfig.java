@@ -0,0 +1,20 @@
+package com.favoriteplace.support;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * @DataJpaTest 슬라이스 테스트 공용 설정
+ * 애플리케이션 클래스의 @EnableFeignClients 없이 JPA 관련 빈만 띄움
+ * 사용하는 쪽에서 @ContextConfiguration(classes = JpaSliceConfig.class) 로 지정
+ */
+@Configuration
+@EnableJpaAuditing
+@EntityScan("com.favoriteplace.app.domain")
+@EnableJpaRepositories("com.favoriteplace.app.repository")
+@Import(TestFixtures.class)
+public class JpaSliceConfig {
+}
@@ -0,0 +1,84 @@
+package com.favoriteplace.support;
+
+import com.favoriteplace.app.domain.Image;
+import com.favoriteplace.app.domain.Member;
+import com.favoriteplace.app.domain.enums.ItemCategory;
+import com.favoriteplace.app.domain.enums.ItemType;
+import com.favoriteplace.app.domain.enums.LoginType;
+import com.favoriteplace.app.domain.enums.MemberStatus;
+import com.favoriteplace.app.domain.enums.SaleStatus;
+import com.favoriteplace.app.domain.item.Item;
+import com.favoriteplace.app.domain.travel.Address;
+import com.favoriteplace.app.domain.travel.Pilgrimage;
+import com.favoriteplace.app.domain.travel.Rally;
+import jakarta.persistence.EntityManager;
+
+import java.util.UUID;
+
+/**
+ * 슬라이스 테스트에서 쓰는 엔티티 생성 도우미
+ * 호출하는 쪽의 트랜잭션 안에서 persist 만 하고 flush 는 하지 않음
+ */
+public class TestFixtures {
+    private final EntityManager em;
+
+    public TestFixtures(EntityManager em) {
+        this.em = em;
+    }
+
+    public Member member(String nickname) {
+        return persist(Member.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname(nickname)
+                .status(MemberStatus.Y)
+                .alarmAllowance(false)
+                .point(0L)
+                .loginType(LoginType.SELF)
+                .build());
+    }
+
+    public Rally rally(Long pilgrimageNumber) {
+        Item item = persist(Item.builder()
+                .defaultImage(image("item"))
+                .name("칭호")
+                .status(SaleStatus.NOT_FOR_SALE)
+                .type(ItemType.TITLE)
+                .category(ItemCategory.NORMAL)
+                .point(0L)
+                .description("test")
+                .build());
+        return persist(Rally.builder()
+                .item(item)
+                .image(image("rally"))
+                .name("test")
+                .description("test")
+                .achieveNumber(0L)
+                .pilgrimageNumber(pilgrimageNumber)
+                .build());
+    }
+
+    public Pilgrimage pilgrimage(Rally rally) {
+        Address address = persist(Address.builder().state("도쿄도").district("신주쿠구").build());
+        return persist(Pilgrimage.builder()
+                .address(address)
+                .rally(rally)
+                .virtualImage(image("virtual"))
+                .realImage(image("real"))
+                .rallyName("test")
+                .detailAddress("test")
+                .detailAddressEn("test")
+                .detailAddressJp("test")
+                .latitude(35.0)
+                .longitude(139.0)
+                .build());
+    }
+
+    public Image image(String name) {
+        return persist(Image.builder().url("https://example.com/" + name + ".png").build());
+    }
+
+    public <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}